@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time-to-first-successful POST /api/receipts and RSS,
+# comparing the plain jar against the fast-start build (AOT + AppCDS + lazy init).
+#
+# Usage (from fee-service/):
+#   mvn -Pfast-start -DskipTests package
+#   benchmark/startup-benchmark.sh [runs]
+#
+# A stub Student Service is started on port 8081 so the POST can succeed.
+
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=8082
+STUB_PORT=8081
+TARGET_DIR="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR_NAME=$(cd "$TARGET_DIR" && ls fee-service-*.jar | grep -v original | head -n 1)
+FAST_DIR="$TARGET_DIR/fast-start"
+
+if [[ ! -f "$FAST_DIR/application.jsa" ]]; then
+  echo "Missing $FAST_DIR/application.jsa - run 'mvn -Pfast-start -DskipTests package' first" >&2
+  exit 1
+fi
+
+python3 - "$STUB_PORT" <<'PY' &
+import json, sys
+from http.server import BaseHTTPRequestHandler, HTTPServer
+
+class Stub(BaseHTTPRequestHandler):
+    def do_GET(self):
+        student_id = self.path.rsplit("/", 1)[-1]
+        body = json.dumps({"studentId": student_id, "name": "Bench", "grade": "10",
+                           "schoolName": "Bench School"}).encode()
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, *args):
+        pass
+
+HTTPServer(("127.0.0.1", int(sys.argv[1])), Stub).serve_forever()
+PY
+STUB_PID=$!
+trap 'kill $STUB_PID 2>/dev/null || true' EXIT
+
+now_ms() { date +%s%3N; }
+
+# Starts the service with the given command, waits for the first 200 from
+# POST /api/receipts and prints "<elapsed ms> <rss kB>".
+measure() {
+  local dir=$1; shift
+  local start pid elapsed rss
+  start=$(now_ms)
+  (cd "$dir" && exec "$@" >/dev/null 2>&1) &
+  pid=$!
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/receipts" \
+        -H 'Content-Type: application/json' \
+        -d '{"studentId":"S-BENCH","amount":100.0,"paymentMode":"CASH"}')" == "200" ]]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "service exited before answering" >&2
+      return 1
+    fi
+    sleep 0.02
+  done
+  elapsed=$(( $(now_ms) - start ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed $rss"
+}
+
+report() {
+  local label=$1; shift
+  local total_ms=0 total_rss=0 result
+  for ((i = 1; i <= RUNS; i++)); do
+    result=$(measure "$@")
+    printf '  %-10s run %d: %s ms, %s kB RSS\n' "$label" "$i" ${result}
+    total_ms=$(( total_ms + ${result% *} ))
+    total_rss=$(( total_rss + ${result#* } ))
+  done
+  printf '%-10s avg: %d ms to first POST, %d kB RSS\n' "$label" $(( total_ms / RUNS )) $(( total_rss / RUNS ))
+}
+
+report baseline "$TARGET_DIR" java -jar "$JAR_NAME"
+report fast-start "$FAST_DIR" java -XX:SharedArchiveFile=application.jsa -Xlog:cds=off,cds+dynamic=off \
+  -Dspring.aot.enabled=true -Dspring.profiles.active=fast-start -jar "$JAR_NAME"
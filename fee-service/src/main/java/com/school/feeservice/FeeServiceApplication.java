@@ -1,9 +1,11 @@
 package com.school.feeservice;
 
+import com.school.feeservice.client.StudentServiceProperties;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @OpenAPIDefinition(
@@ -14,6 +16,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 )
 @SpringBootApplication
 @EnableFeignClients(basePackages = "com.school.feeservice.client")
+@EnableConfigurationProperties(StudentServiceProperties.class)
 public class FeeServiceApplication {
 
 	public static void main(String[] args) {
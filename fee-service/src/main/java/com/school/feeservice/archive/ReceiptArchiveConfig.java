@@ -0,0 +1,35 @@
+package com.school.feeservice.archive;
+
+import com.school.feeservice.repository.ArchivedReceiptRepository;
+import com.school.feeservice.repository.ReceiptRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@EnableConfigurationProperties(ReceiptArchiveProperties.class)
+public class ReceiptArchiveConfig {
+
+    @Bean
+    public ReceiptArchiveJob receiptArchiveJob(ReceiptRepository repository,
+                                               ArchivedReceiptRepository archiveRepository,
+                                               ReceiptArchiveProperties properties,
+                                               PlatformTransactionManager transactionManager) {
+        return new ReceiptArchiveJob(repository, archiveRepository, properties, transactionManager);
+    }
+
+    @Bean
+    public SchedulingConfigurer receiptArchiveSchedule(ReceiptArchiveJob receiptArchiveJob,
+                                                       ReceiptArchiveProperties properties) {
+        // Checked at runtime rather than with @ConditionalOnProperty, which the AOT build would fix at build time
+        return registrar -> {
+            if (properties.isEnabled()) {
+                registrar.addCronTask(receiptArchiveJob::run, properties.getCron());
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.school.feeservice.archive;
+
+import com.school.feeservice.entity.ArchivedReceipt;
+import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.repository.ArchivedReceiptRepository;
+import com.school.feeservice.repository.ReceiptRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves receipts older than the configured number of hot months into receipts_archive,
+ * one batch per transaction, so the hot table and its indexes stay small.
+ */
+@Slf4j
+public class ReceiptArchiveJob {
+
+    private final ReceiptRepository repository;
+    private final ArchivedReceiptRepository archiveRepository;
+    private final ReceiptArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReceiptArchiveJob(ReceiptRepository repository, ArchivedReceiptRepository archiveRepository,
+                             ReceiptArchiveProperties properties, PlatformTransactionManager transactionManager) {
+        if (properties.getHotMonths() < 1) {
+            throw new IllegalArgumentException("fee-service.archive.hot-months must be at least 1");
+        }
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void run() {
+        archiveBefore(cutoff(LocalDate.now()));
+    }
+
+    /**
+     * Archives every hot receipt paid before {@code cutoff}.
+     *
+     * @return number of receipts moved
+     */
+    public int archiveBefore(LocalDateTime cutoff) {
+        log.info("Archiving receipts paid before {}", cutoff);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> moveBatch(cutoff));
+            total += moved;
+        } while (moved == properties.getBatchSize());
+        log.info("Archived {} receipts paid before {}", total, cutoff);
+        return total;
+    }
+
+    /**
+     * First day of the oldest month that stays hot.
+     */
+    LocalDateTime cutoff(LocalDate today) {
+        return today.withDayOfMonth(1).minusMonths(properties.getHotMonths() - 1L).atStartOfDay();
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Receipt> batch = repository.findByPaymentDateBefore(cutoff,
+                PageRequest.of(0, properties.getBatchSize(), Sort.by("id")));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.saveAll(batch.stream().map(ArchivedReceipt::from).toList());
+        repository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+}
@@ -0,0 +1,32 @@
+package com.school.feeservice.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for moving old receipts from the hot table to receipts_archive.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fee-service.archive")
+public class ReceiptArchiveProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Calendar months kept in the hot table, including the current one.
+     * Must be at least 1 so the monthly duplicate check only ever needs the hot table.
+     */
+    private int hotMonths = 3;
+
+    /**
+     * Receipts moved per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * When the job runs (Spring cron expression, server time zone).
+     */
+    private String cron = "0 30 2 * * *";
+}
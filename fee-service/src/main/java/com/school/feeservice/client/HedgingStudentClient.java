@@ -0,0 +1,176 @@
+package com.school.feeservice.client;
+
+import com.school.feeservice.profiling.StudentServiceCallEvent;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feign client that spreads Student Service calls over the configured replicas.
+ * <p>
+ * Requests are addressed to the logical host {@link #LOGICAL_HOST}; each call is
+ * rewritten to the replica picked by {@link LatencyAwareLoadBalancer}. When hedging
+ * is enabled, a GET that has not answered within the observed p95 latency is sent
+ * again to a different replica and whichever answers first wins.
+ * <p>
+ * Hedged attempts run on a pool capped at {@code hedging.max-threads}. When it is
+ * full the call runs unhedged on the caller thread (or the hedge is skipped), so a
+ * slow Student Service cannot make the pool grow without bound.
+ */
+@Slf4j
+public class HedgingStudentClient implements Client, Closeable {
+
+    public static final String LOGICAL_HOST = "http://student-service";
+
+    private final Client delegate;
+    private final LatencyAwareLoadBalancer loadBalancer;
+    private final StudentServiceProperties.Hedging hedging;
+    private final ThreadPoolExecutor executor;
+
+    public HedgingStudentClient(Client delegate, LatencyAwareLoadBalancer loadBalancer,
+                                StudentServiceProperties.Hedging hedging) {
+        this.delegate = delegate;
+        this.loadBalancer = loadBalancer;
+        this.hedging = hedging;
+        this.executor = new ThreadPoolExecutor(0, hedging.getMaxThreads(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemonThreads(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        LatencyAwareLoadBalancer.Replica primary = loadBalancer.choose(null);
+        if (!hedging.isEnabled() || loadBalancer.size() < 2 || request.httpMethod() != Request.HttpMethod.GET) {
+            return call(primary, request, options);
+        }
+
+        CompletionService<Response> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Response>> attempts = new ArrayList<>(2);
+        try {
+            attempts.add(completion.submit(() -> call(primary, request, options)));
+        } catch (RejectedExecutionException ex) {
+            log.debug("Hedging pool saturated, calling {} without a hedge", primary);
+            return call(primary, request, options);
+        }
+        try {
+            Future<Response> done = completion.poll(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                LatencyAwareLoadBalancer.Replica secondary = loadBalancer.choose(primary);
+                log.debug("Hedging {} {} on {} after slow response from {}",
+                        request.httpMethod(), request.url(), secondary, primary);
+                try {
+                    attempts.add(completion.submit(() -> call(secondary, request, options)));
+                } catch (RejectedExecutionException ex) {
+                    log.debug("Hedging pool saturated, not hedging {} {}", request.httpMethod(), request.url());
+                }
+                done = completion.take();
+            }
+            for (int remaining = attempts.size() - 1; ; remaining--) {
+                try {
+                    return done.get();
+                } catch (ExecutionException ex) {
+                    if (remaining == 0) {
+                        throw unwrap(ex);
+                    }
+                    done = completion.take();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while calling student-service");
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(false));
+        }
+    }
+
+    /**
+     * Runs one attempt against a replica. The body is buffered so that a losing
+     * attempt never holds an open connection.
+     */
+    private Response call(LatencyAwareLoadBalancer.Replica replica, Request request,
+                          Request.Options options) throws IOException {
+        Request target = Request.create(request.httpMethod(), rewrite(request.url(), replica),
+                request.headers(), request.body(), request.charset(), request.requestTemplate());
+        StudentServiceCallEvent event = StudentServiceCallEvent.start(replica.getBaseUrl(),
+                URI.create(request.url()).getPath());
+        long start = System.nanoTime();
+        replica.start();
+        try (Response response = delegate.execute(target, options)) {
+            byte[] body = response.body() != null ? Util.toByteArray(response.body().asInputStream()) : null;
+            long latency = System.nanoTime() - start;
+            if (response.status() >= 500) {
+                replica.failure(latency);
+            } else {
+                replica.success(latency);
+            }
+            event.finish(response.status(), response.status() >= 500);
+            return response.toBuilder().request(request).body(body).build();
+        } catch (IOException | RuntimeException ex) {
+            replica.failure(System.nanoTime() - start);
+            event.finish(0, true);
+            throw ex;
+        }
+    }
+
+    private long hedgeDelayNanos() {
+        long observed = loadBalancer.percentileNanos(hedging.getPercentile());
+        long delay = observed < 0 ? hedging.getInitialDelay().toNanos() : observed;
+        return Math.max(delay, hedging.getMinDelay().toNanos());
+    }
+
+    private static String rewrite(String url, LatencyAwareLoadBalancer.Replica replica) {
+        URI uri = URI.create(url);
+        StringBuilder target = new StringBuilder(replica.getBaseUrl()).append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            target.append('?').append(uri.getRawQuery());
+        }
+        return target.toString();
+    }
+
+    private static IOException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException(cause);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "student-client-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    int largestPoolSize() {
+        return executor.getLargestPoolSize();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
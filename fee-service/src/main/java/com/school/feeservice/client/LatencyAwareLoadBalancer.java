@@ -0,0 +1,159 @@
+package com.school.feeservice.client;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks a Student Service replica using "power of two choices" over a
+ * latency EWMA weighted by in-flight calls (peak-EWMA style).
+ * Also keeps a rolling latency window used to derive the hedge delay.
+ */
+public class LatencyAwareLoadBalancer {
+
+    private final List<Replica> replicas;
+    private final double alpha;
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final LatencyWindow window;
+
+    public LatencyAwareLoadBalancer(StudentServiceProperties properties) {
+        if (properties.getReplicas() == null || properties.getReplicas().isEmpty()) {
+            throw new IllegalArgumentException("At least one student-service replica must be configured");
+        }
+        this.replicas = properties.getReplicas().stream()
+                .map(url -> new Replica(stripTrailingSlash(url)))
+                .toList();
+        this.alpha = properties.getLoadBalancer().getEwmaAlpha();
+        this.decayNanos = properties.getLoadBalancer().getDecay().toNanos();
+        this.failurePenaltyNanos = properties.getLoadBalancer().getFailurePenalty().toNanos();
+        this.window = new LatencyWindow(properties.getHedging().getWindowSize());
+    }
+
+    public int size() {
+        return replicas.size();
+    }
+
+    /**
+     * Chooses the cheaper of two random replicas, never returning {@code exclude}
+     * unless it is the only replica.
+     */
+    public Replica choose(Replica exclude) {
+        List<Replica> candidates = exclude == null || replicas.size() < 2
+                ? replicas
+                : replicas.stream().filter(r -> r != exclude).toList();
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        long now = System.nanoTime();
+        Replica a = candidates.get(first);
+        Replica b = candidates.get(second);
+        return a.cost(now) <= b.cost(now) ? a : b;
+    }
+
+    /**
+     * Latency at the given percentile of recent calls, or -1 if too few samples.
+     */
+    public long percentileNanos(double percentile) {
+        return window.percentile(percentile);
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public final class Replica {
+
+        private final String baseUrl;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaNanos;
+        private long lastUpdateNanos = System.nanoTime();
+
+        private Replica(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public void start() {
+            inFlight.incrementAndGet();
+        }
+
+        public void success(long latencyNanos) {
+            inFlight.decrementAndGet();
+            update(latencyNanos);
+            window.record(latencyNanos);
+        }
+
+        public void failure(long latencyNanos) {
+            inFlight.decrementAndGet();
+            update(Math.max(latencyNanos, failurePenaltyNanos));
+        }
+
+        private synchronized void update(long latencyNanos) {
+            long now = System.nanoTime();
+            ewmaNanos = ewmaNanos == 0
+                    ? latencyNanos
+                    : alpha * latencyNanos + (1 - alpha) * decayed(now);
+            lastUpdateNanos = now;
+        }
+
+        private synchronized double decayed(long now) {
+            long idle = now - lastUpdateNanos;
+            return idle <= 0 ? ewmaNanos : ewmaNanos * Math.exp(-(double) idle / decayNanos);
+        }
+
+        double cost(long now) {
+            return decayed(now) * (inFlight.get() + 1);
+        }
+
+        @Override
+        public String toString() {
+            return baseUrl;
+        }
+    }
+
+    /**
+     * Fixed-size ring buffer of recent latencies.
+     */
+    private static final class LatencyWindow {
+
+        private static final int MIN_SAMPLES = 20;
+
+        private final long[] samples;
+        private int next;
+        private int count;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[Math.max(size, MIN_SAMPLES)];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        long percentile(double percentile) {
+            long[] copy;
+            synchronized (this) {
+                if (count < MIN_SAMPLES) {
+                    return -1;
+                }
+                copy = Arrays.copyOf(samples, count);
+            }
+            Arrays.sort(copy);
+            int index = (int) Math.ceil(percentile * copy.length) - 1;
+            return copy[Math.min(Math.max(index, 0), copy.length - 1)];
+        }
+    }
+}
@@ -5,7 +5,12 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "student-service", url = "http://localhost:8081/api/students")
+/**
+ * Student Service client. The host is resolved per call by {@link HedgingStudentClient}
+ * from the replicas listed under {@code student-service.replicas}.
+ */
+@FeignClient(name = "student-service", url = HedgingStudentClient.LOGICAL_HOST + "/api/students",
+        configuration = StudentClientConfiguration.class)
 public interface StudentClient {
 
     @GetMapping("/{studentId}")
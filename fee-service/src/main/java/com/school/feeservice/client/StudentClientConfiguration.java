@@ -0,0 +1,22 @@
+package com.school.feeservice.client;
+
+import feign.Client;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Feign configuration for {@link StudentClient} only.
+ * Deliberately not annotated with @Configuration so it does not leak into the main context.
+ */
+public class StudentClientConfiguration {
+
+    @Bean
+    public LatencyAwareLoadBalancer studentLoadBalancer(StudentServiceProperties properties) {
+        return new LatencyAwareLoadBalancer(properties);
+    }
+
+    @Bean(destroyMethod = "close")
+    public Client studentFeignClient(LatencyAwareLoadBalancer studentLoadBalancer,
+                                     StudentServiceProperties properties) {
+        return new HedgingStudentClient(new Client.Default(null, null), studentLoadBalancer, properties.getHedging());
+    }
+}
@@ -0,0 +1,81 @@
+package com.school.feeservice.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replica endpoints and client-side balancing settings for Student Service.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "student-service")
+public class StudentServiceProperties {
+
+    /**
+     * Base URLs of the Student Service replicas, e.g. http://localhost:8081
+     */
+    private List<String> replicas = new ArrayList<>(List.of("http://localhost:8081"));
+
+    private LoadBalancer loadBalancer = new LoadBalancer();
+
+    private Hedging hedging = new Hedging();
+
+    @Getter
+    @Setter
+    public static class LoadBalancer {
+
+        /**
+         * Weight of the newest sample in the per-replica latency EWMA.
+         */
+        private double ewmaAlpha = 0.3;
+
+        /**
+         * Time after which an idle replica's latency estimate has decayed by 1/e,
+         * so a replica that was slow once gets probed again.
+         */
+        private Duration decay = Duration.ofSeconds(10);
+
+        /**
+         * Latency charged to a replica when a call to it fails.
+         */
+        private Duration failurePenalty = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        private boolean enabled = false;
+
+        /**
+         * Observed latency percentile after which a second copy is sent.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Hedge delay used until enough latency samples have been collected.
+         */
+        private Duration initialDelay = Duration.ofMillis(100);
+
+        /**
+         * Lower bound for the hedge delay, to avoid doubling every request.
+         */
+        private Duration minDelay = Duration.ofMillis(10);
+
+        /**
+         * Number of recent latency samples used to estimate the percentile.
+         */
+        private int windowSize = 256;
+
+        /**
+         * Upper bound on threads running hedged attempts. When all are busy, calls
+         * run on the caller thread without a hedge.
+         */
+        private int maxThreads = 32;
+    }
+}
@@ -0,0 +1,66 @@
+package com.school.feeservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Startup tuning for the "fast-start" profile.
+ * Beans that are not on the payment path (springdoc by default) are marked lazy,
+ * so they are only created when first requested instead of during boot.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor offPathLazyInitPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("fee-service.startup.lazy-packages", String[].class)
+                .map(List::of)
+                .orElse(List.of("org.springdoc"));
+
+        return beanFactory -> {
+            int count = 0;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (!definition.isLazyInit() && isOffPath(beanFactory, definition, packages)) {
+                    definition.setLazyInit(true);
+                    count++;
+                }
+            }
+            log.info("fast-start: marked {} off-path beans lazy (packages={})", count, packages);
+        };
+    }
+
+    private static boolean isOffPath(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition,
+                                     List<String> packages) {
+        if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+            return false;
+        }
+        String className = definition.getBeanClassName();
+        // @Bean methods have no class name; use the declaring configuration class instead
+        if (className == null && definition.getFactoryBeanName() != null
+                && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : packages) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
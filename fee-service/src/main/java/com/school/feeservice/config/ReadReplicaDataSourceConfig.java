@@ -0,0 +1,89 @@
+package com.school.feeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to a replica pool and everything else to the primary.
+ * <p>
+ * The application DataSource is a {@link LazyConnectionDataSourceProxy}: it only picks
+ * a physical connection on first use, after the transaction manager has marked the
+ * connection read-only, and then takes it from the replica pool. Enabled with
+ * fee-service.datasource.replica.enabled=true; the primary still comes from spring.datasource.
+ * <p>
+ * The flag is read when the DataSource is built rather than through a bean condition, so
+ * the AOT-processed fast-start build can still switch it at runtime. The replica pool is
+ * not a bean of its own: it is only created and bound while the flag is on, so health
+ * checks and the H2 console never see an unconfigured replica.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class ReadReplicaDataSourceConfig {
+
+    static final String REPLICA_PREFIX = "fee-service.datasource.replica";
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("primary")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(@Qualifier("primary") HikariDataSource primary, Environment environment) {
+        return routingDataSource(primary, Binder.get(environment));
+    }
+
+    static ReplicaRoutingDataSource routingDataSource(HikariDataSource primary, Binder binder) {
+        if (!binder.bind(REPLICA_PREFIX + ".enabled", Boolean.class).orElse(false)) {
+            return new ReplicaRoutingDataSource(primary, null);
+        }
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        binder.bind(REPLICA_PREFIX, Bindable.ofInstance(replica));
+        if (replica.getJdbcUrl() == null || replica.getJdbcUrl().isBlank()) {
+            replica.close();
+            throw new IllegalStateException(REPLICA_PREFIX + ".jdbc-url must be set when the replica is enabled");
+        }
+        log.info("Routing read-only transactions to replica {}", replica.getJdbcUrl());
+        return new ReplicaRoutingDataSource(primary, replica);
+    }
+
+    /**
+     * Routing proxy that owns the replica pool, if any, and closes it with the context.
+     * The primary pool is a bean of its own and is closed by the container.
+     */
+    public static class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final HikariDataSource replica;
+
+        ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica) {
+            super(primary);
+            this.replica = replica;
+            if (replica != null) {
+                setReadOnlyDataSource(replica);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (replica != null) {
+                replica.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.school.feeservice.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary response formats for internal consumers, selected through the Accept header:
+ * Smile ({@value #APPLICATION_SMILE_VALUE}) and CBOR ({@value MediaType#APPLICATION_CBOR_VALUE}).
+ * JSON stays the default. Binary formats write LocalDateTime values as arrays of numbers,
+ * e.g. [2025, 10, 31, 9, 50, 24], instead of ISO strings.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReceiptFormatConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private final Jackson2ObjectMapperBuilder builder;
+
+    public ReceiptFormatConfig(Jackson2ObjectMapperBuilder builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Replace the framework defaults so the binary mappers share Boot's Jackson settings
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(binaryMapper(new SmileFactory())));
+        converters.add(new MappingJackson2CborHttpMessageConverter(binaryMapper(new CBORFactory())));
+    }
+
+    private ObjectMapper binaryMapper(JsonFactory factory) {
+        ObjectMapper mapper = builder.build().copyWith(factory);
+        mapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+}
@@ -0,0 +1,81 @@
+package com.school.feeservice.controller;
+
+import com.school.feeservice.dto.PaidStatusResponseDTO;
+import com.school.feeservice.dto.RosterRequestDTO;
+import com.school.feeservice.exception.ServiceOverloadedException;
+import com.school.feeservice.index.PaidStudentIndex;
+import com.school.feeservice.limit.ConcurrencyLimited;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/receipts/paid-status")
+@RequiredArgsConstructor
+@Tag(name = "Paid Status", description = "Who has and has not paid for a given month")
+public class PaidStatusController {
+
+    private final PaidStudentIndex index;
+
+    @Operation(
+            summary = "Paid count for a month",
+            description = "Returns how many distinct students paid successfully in the month (yyyy-MM)"
+    )
+    @GetMapping("/{month}")
+    @ConcurrencyLimited("reads")
+    public ResponseEntity<PaidStatusResponseDTO> getPaidCount(
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        log.info("[GET] /api/receipts/paid-status/{} - Paid count", month);
+        requireLoaded();
+        return ResponseEntity.ok(PaidStatusResponseDTO.builder()
+                .month(month)
+                .paidCount(index.paidCount(month))
+                .build());
+    }
+
+    @Operation(
+            summary = "Unpaid students in a roster",
+            description = "Takes a candidate roster and returns the students who have not paid in the month (yyyy-MM), "
+                    + "with paid/unpaid counts for that roster"
+    )
+    @PostMapping("/{month}/unpaid")
+    @ConcurrencyLimited("reads")
+    public ResponseEntity<PaidStatusResponseDTO> getUnpaidStudents(
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestBody @Validated RosterRequestDTO roster) {
+        if (roster.getStudentIds() == null || roster.getStudentIds().contains(null)) {
+            throw new ValidationException("Student IDs are required and must not be null");
+        }
+        log.info("[POST] /api/receipts/paid-status/{}/unpaid - Roster of {} students", month,
+                roster.getStudentIds().size());
+        requireLoaded();
+        Set<String> candidates = new LinkedHashSet<>(roster.getStudentIds());
+        List<String> unpaid = index.unpaid(month, candidates);
+        return ResponseEntity.ok(PaidStatusResponseDTO.builder()
+                .month(month)
+                .rosterSize(candidates.size())
+                .paidCount(candidates.size() - unpaid.size())
+                .unpaidCount(unpaid.size())
+                .unpaidStudentIds(unpaid)
+                .build());
+    }
+
+    private void requireLoaded() {
+        if (!index.isLoaded()) {
+            throw new ServiceOverloadedException("Paid-students index is still loading", Duration.ofSeconds(1));
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.school.feeservice.controller;
 
+import com.school.feeservice.config.ReceiptFormatConfig;
 import com.school.feeservice.dto.*;
+import com.school.feeservice.limit.ConcurrencyLimited;
 import com.school.feeservice.service.ReceiptService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -26,8 +30,13 @@ public class ReceiptController {
             description = "Accepts student fee payment and generates a receipt entry"
     )
     @PostMapping
+    @ConcurrencyLimited("payments")
     public ResponseEntity<ReceiptResponseDTO> collectFee(@RequestBody @Validated ReceiptRequestDTO request) {
         log.info("[POST] /api/receipts - Collect fee for studentId={}", request.getStudentId());
+        // Checked here rather than with @NotNull: no Bean Validation provider is on the classpath
+        if (request.getPaymentMode() == null) {
+            throw new ValidationException("Payment mode is required");
+        }
         return ResponseEntity.ok(service.processFeePayment(request));
     }
 
@@ -35,7 +44,9 @@ public class ReceiptController {
             summary = "Fetch receipt by ID",
             description = "Retrieves a single fee receipt record using receipt ID"
     )
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE,
+            ReceiptFormatConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @ConcurrencyLimited("reads")
     public ResponseEntity<ReceiptResponseDTO> getReceipt(@PathVariable Long id) {
         log.info("[GET] /api/receipts/{} - Fetch receipt by ID", id);
         return ResponseEntity.ok(service.getReceipt(id));
@@ -43,9 +54,12 @@ public class ReceiptController {
 
     @Operation(
             summary = "List all receipts by student",
-            description = "Returns all receipts for the given student ID"
+            description = "Returns all receipts for the given student ID. "
+                    + "Send Accept: application/x-jackson-smile or application/cbor for a compact binary body"
     )
-    @GetMapping("/student/{studentId}")
+    @GetMapping(value = "/student/{studentId}", produces = {MediaType.APPLICATION_JSON_VALUE,
+            ReceiptFormatConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @ConcurrencyLimited("reads")
     public ResponseEntity<List<ReceiptResponseDTO>> getReceiptsByStudent(@PathVariable String studentId) {
         log.info("[GET] /api/receipts/student/{} - Fetch receipts for studentId={}", studentId, studentId);
         return ResponseEntity.ok(service.getReceiptsByStudent(studentId));
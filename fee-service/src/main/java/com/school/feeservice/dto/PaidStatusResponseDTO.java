@@ -0,0 +1,21 @@
+package com.school.feeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaidStatusResponseDTO {
+    private YearMonth month;
+    private Integer rosterSize;
+    private Integer paidCount;
+    private Integer unpaidCount;
+    private List<String> unpaidStudentIds;
+}
@@ -1,5 +1,7 @@
 package com.school.feeservice.dto;
 
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
@@ -16,14 +18,12 @@ public class ReceiptRequestDTO {
     @Positive(message = "Amount must be greater than 0")
     private Double amount;
 
-    @NotBlank(message = "Payment mode is required")
-    @Pattern(regexp = "^(CARD|UPI|CASH)$", message = "Payment mode must be CARD, UPI, or CASH")
-    private String paymentMode;
+    // Unknown values are rejected while the body is read (see PaymentMode.fromValue); null is checked in ReceiptController
+    private PaymentMode paymentMode;
 
     private String remarks;
 
-    @Pattern(regexp = "^(SUCCESS|PENDING|FAILED)$", message = "Invalid payment status")
-    private String paymentStatus;
+    private PaymentStatus paymentStatus;
 
     // Conditional field: required only if paymentMode == CARD
     @Size(min = 8, max = 16, message = "Card number must be between 8 and 16 digits")
@@ -1,6 +1,8 @@
 package com.school.feeservice.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
 import lombok.*;
 import java.time.LocalDateTime;
 
@@ -18,8 +20,8 @@ public class ReceiptResponseDTO {
     private String grade;
     private String schoolName;
     private Double amount;
-    private String paymentMode;
-    private String paymentStatus;
+    private PaymentMode paymentMode;
+    private PaymentStatus paymentStatus;
     private String remarks;
     private LocalDateTime paymentDate;
     private String cardNumber;
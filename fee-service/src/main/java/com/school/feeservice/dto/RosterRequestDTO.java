@@ -0,0 +1,16 @@
+package com.school.feeservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RosterRequestDTO {
+
+    @NotNull(message = "Student IDs are required")
+    private List<String> studentIds;
+}
@@ -0,0 +1,89 @@
+package com.school.feeservice.entity;
+
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cold copy of a {@link Receipt} moved out of the hot table by the archive job.
+ * Keeps the original id so lookups by receipt id still work.
+ */
+@Entity
+@Table(name = "receipts_archive", indexes = {
+        @Index(name = "idx_receipts_archive_student", columnList = "studentId"),
+        @Index(name = "idx_receipts_archive_status_date", columnList = "paymentStatus, paymentDate")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedReceipt implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String receiptNumber;
+
+    @Column(nullable = false, length = 50)
+    private String studentId;
+
+    private String remarks;
+    private String studentName;
+    private String grade;
+    private String schoolName;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    @Column(columnDefinition = "CHAR(1)", nullable = false)
+    private PaymentMode paymentMode;
+
+    @Column(columnDefinition = "CHAR(1)", nullable = false)
+    private PaymentStatus paymentStatus;
+
+    private LocalDateTime paymentDate;
+
+    @Column(length = 30)
+    private String cardNumber;
+
+    private LocalDateTime archivedAt;
+
+    // Ids are copied from the hot table, so tell Spring Data to insert instead of merge
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean fresh = true;
+
+    public static ArchivedReceipt from(Receipt receipt) {
+        ArchivedReceipt archived = new ArchivedReceipt();
+        archived.setId(receipt.getId());
+        archived.setReceiptNumber(receipt.getReceiptNumber());
+        archived.setStudentId(receipt.getStudentId());
+        archived.setRemarks(receipt.getRemarks());
+        archived.setStudentName(receipt.getStudentName());
+        archived.setGrade(receipt.getGrade());
+        archived.setSchoolName(receipt.getSchoolName());
+        archived.setAmount(receipt.getAmount());
+        archived.setPaymentMode(receipt.getPaymentMode());
+        archived.setPaymentStatus(receipt.getPaymentStatus());
+        archived.setPaymentDate(receipt.getPaymentDate());
+        archived.setCardNumber(receipt.getCardNumber());
+        archived.setArchivedAt(LocalDateTime.now());
+        return archived;
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.fresh = false;
+    }
+}
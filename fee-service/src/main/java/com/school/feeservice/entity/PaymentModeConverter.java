@@ -0,0 +1,22 @@
+package com.school.feeservice.entity;
+
+import com.school.feeservice.enums.PaymentMode;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link PaymentMode} as its CHAR(1) code (C = card, U = UPI, H = cash).
+ */
+@Converter(autoApply = true)
+public class PaymentModeConverter implements AttributeConverter<PaymentMode, String> {
+
+    @Override
+    public String convertToDatabaseColumn(PaymentMode mode) {
+        return mode == null ? null : String.valueOf(mode.getCode());
+    }
+
+    @Override
+    public PaymentMode convertToEntityAttribute(String code) {
+        return code == null || code.isEmpty() ? null : PaymentMode.fromCode(code.charAt(0));
+    }
+}
@@ -0,0 +1,22 @@
+package com.school.feeservice.entity;
+
+import com.school.feeservice.enums.PaymentStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link PaymentStatus} as its CHAR(1) code (S = success, P = pending, F = failed).
+ */
+@Converter(autoApply = true)
+public class PaymentStatusConverter implements AttributeConverter<PaymentStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(PaymentStatus status) {
+        return status == null ? null : String.valueOf(status.getCode());
+    }
+
+    @Override
+    public PaymentStatus convertToEntityAttribute(String code) {
+        return code == null || code.isEmpty() ? null : PaymentStatus.fromCode(code.charAt(0));
+    }
+}
@@ -1,5 +1,7 @@
 package com.school.feeservice.entity;
 
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,7 +9,14 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 
 @Entity
-@Table(name = "receipts")
+@Table(name = "receipts", indexes = {
+        // serves the monthly duplicate check and findByStudentId
+        @Index(name = "idx_receipts_student_date", columnList = "studentId, paymentDate"),
+        // serves the archive job's range scan
+        @Index(name = "idx_receipts_payment_date", columnList = "paymentDate"),
+        // serves reconciliation by status (e.g. PENDING in a date range) and the paid-students index load
+        @Index(name = "idx_receipts_status_date", columnList = "paymentStatus, paymentDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,11 +42,11 @@ public class Receipt {
     @Column(nullable = false)
     private Double amount;
 
-    @Column(length = 20, nullable = false)
-    private String paymentMode;
+    @Column(columnDefinition = "CHAR(1)", nullable = false)
+    private PaymentMode paymentMode;
 
-    @Column(length = 20, nullable = false)
-    private String paymentStatus;
+    @Column(columnDefinition = "CHAR(1)", nullable = false)
+    private PaymentStatus paymentStatus;
 
     private LocalDateTime paymentDate;
 
@@ -46,7 +55,9 @@ public class Receipt {
 
     @PrePersist
     public void prePersist() {
-        this.paymentDate = LocalDateTime.now();
+        if (this.paymentDate == null) {
+            this.paymentDate = LocalDateTime.now();
+        }
         if (this.receiptNumber == null || this.receiptNumber.isBlank()) {
             this.receiptNumber = "REC-" + System.currentTimeMillis();
         }
@@ -0,0 +1,47 @@
+package com.school.feeservice.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Locale;
+
+/**
+ * How a fee was paid. Serialised by name in JSON; stored as a one-character code.
+ */
+public enum PaymentMode {
+    CARD('C'),
+    UPI('U'),
+    CASH('H');
+
+    private final char code;
+
+    PaymentMode(char code) {
+        this.code = code;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    public static PaymentMode fromCode(char code) {
+        return switch (code) {
+            case 'C' -> CARD;
+            case 'U' -> UPI;
+            case 'H' -> CASH;
+            default -> throw new IllegalArgumentException("Unknown payment mode code: " + code);
+        };
+    }
+
+    /**
+     * Case-insensitive ("cash" is CASH). The declared contract was upper case only, but it was never
+     * validated, so lower-case values are still accepted for clients that relied on that.
+     */
+    @JsonCreator
+    public static PaymentMode fromValue(String value) {
+        return switch (value.toUpperCase(Locale.ROOT)) {
+            case "CARD" -> CARD;
+            case "UPI" -> UPI;
+            case "CASH" -> CASH;
+            default -> throw new IllegalArgumentException("Payment mode must be CARD, UPI, or CASH");
+        };
+    }
+}
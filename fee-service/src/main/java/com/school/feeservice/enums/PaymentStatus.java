@@ -0,0 +1,47 @@
+package com.school.feeservice.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Locale;
+
+/**
+ * Outcome of a fee payment. Serialised by name in JSON; stored as a one-character code.
+ */
+public enum PaymentStatus {
+    SUCCESS('S'),
+    PENDING('P'),
+    FAILED('F');
+
+    private final char code;
+
+    PaymentStatus(char code) {
+        this.code = code;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    public static PaymentStatus fromCode(char code) {
+        return switch (code) {
+            case 'S' -> SUCCESS;
+            case 'P' -> PENDING;
+            case 'F' -> FAILED;
+            default -> throw new IllegalArgumentException("Unknown payment status code: " + code);
+        };
+    }
+
+    /**
+     * Case-insensitive ("success" is SUCCESS). The declared contract was upper case only, but it was never
+     * validated, so lower-case values are still accepted for clients that relied on that.
+     */
+    @JsonCreator
+    public static PaymentStatus fromValue(String value) {
+        return switch (value.toUpperCase(Locale.ROOT)) {
+            case "SUCCESS" -> SUCCESS;
+            case "PENDING" -> PENDING;
+            case "FAILED" -> FAILED;
+            default -> throw new IllegalArgumentException("Invalid payment status");
+        };
+    }
+}
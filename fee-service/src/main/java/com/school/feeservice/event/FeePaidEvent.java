@@ -0,0 +1,9 @@
+package com.school.feeservice.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a fee payment is saved with status SUCCESS.
+ */
+public record FeePaidEvent(String studentId, LocalDateTime paymentDate) {
+}
@@ -3,8 +3,10 @@ package com.school.feeservice.exception;
 import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -12,6 +14,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -30,6 +33,19 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    // 🔹 Handles unreadable request bodies, e.g. an unknown paymentMode or paymentStatus
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<?> handleUnreadableRequest(HttpMessageNotReadableException ex) {
+        String message = Objects.requireNonNullElse(ex.getMostSpecificCause().getMessage(), "Malformed request body");
+        log.warn("Unreadable request: {}", message);
+        return ResponseEntity.badRequest().body(Map.of(
+                "timestamp", Instant.now(),
+                "status", 400,
+                "error", "Bad Request",
+                "message", message
+        ));
+    }
+
     // 🔹 Handles when student is not found (from Student Service)
     @ExceptionHandler(StudentNotFoundException.class)
     public ResponseEntity<?> handleStudentNotFound(StudentNotFoundException ex) {
@@ -54,6 +70,20 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    // 🔹 Handles load shedding by the concurrency limiter (client should back off and retry)
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<?> handleServiceOverloaded(ServiceOverloadedException ex) {
+        log.warn("Request shed: {}", ex.getMessage());
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(Map.of(
+                        "timestamp", Instant.now(),
+                        "status", 503,
+                        "error", "Service Unavailable",
+                        "message", ex.getMessage()
+                ));
+    }
+
     // 🔹 Generic fallback for any unexpected exception
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneric(Exception ex) {
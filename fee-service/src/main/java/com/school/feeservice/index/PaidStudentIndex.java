@@ -0,0 +1,145 @@
+package com.school.feeservice.index;
+
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.event.FeePaidEvent;
+import com.school.feeservice.repository.ArchivedReceiptRepository;
+import com.school.feeservice.repository.ReceiptRepository;
+import com.school.feeservice.repository.StudentPaymentView;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of which students have paid in which month.
+ * <p>
+ * Student IDs are mapped to dense ints and each month keeps a compressed
+ * {@link RoaringBitmap} of the students with a SUCCESS receipt. The index is
+ * rebuilt from receipts (hot and archived) once the application is ready and
+ * then kept current from {@link FeePaidEvent}s after each payment commits.
+ */
+@Slf4j
+@Component
+public class PaidStudentIndex {
+
+    private final ReceiptRepository repository;
+    private final ArchivedReceiptRepository archiveRepository;
+
+    private final Map<String, Integer> studentIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextStudentId = new AtomicInteger();
+    private final Map<YearMonth, RoaringBitmap> paidByMonth = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    public PaidStudentIndex(ReceiptRepository repository, ArchivedReceiptRepository archiveRepository) {
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+    }
+
+    /**
+     * Builds the index from the receipts tables. Runs in a read-write transaction so it
+     * reads the primary: a lagging read replica would leave the index incomplete.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        long start = System.nanoTime();
+        List<StudentPaymentView> payments = new ArrayList<>(archiveRepository.findByPaymentStatus(PaymentStatus.SUCCESS));
+        payments.addAll(repository.findByPaymentStatus(PaymentStatus.SUCCESS));
+
+        lock.writeLock().lock();
+        try {
+            for (StudentPaymentView payment : payments) {
+                if (payment.getPaymentDate() != null) {
+                    bitmap(YearMonth.from(payment.getPaymentDate())).add(idOf(payment.getStudentId()));
+                }
+            }
+            paidByMonth.values().forEach(RoaringBitmap::runOptimize);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Paid-students index built from {} receipts across {} months in {} ms",
+                payments.size(), paidByMonth.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Records a payment once its transaction has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFeePaid(FeePaidEvent event) {
+        markPaid(event.studentId(), YearMonth.from(event.paymentDate()));
+    }
+
+    public void markPaid(String studentId, YearMonth month) {
+        lock.writeLock().lock();
+        try {
+            bitmap(month).add(idOf(studentId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct students who paid in the given month.
+     */
+    public int paidCount(YearMonth month) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap paid = paidByMonth.get(month);
+            return paid == null ? 0 : paid.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the students from {@code roster} who have no successful payment in the given month,
+     * in roster order. Null ids are skipped.
+     */
+    public List<String> unpaid(YearMonth month, Collection<String> roster) {
+        List<String> unpaid = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            RoaringBitmap paid = paidByMonth.get(month);
+            for (String studentId : roster) {
+                if (studentId == null) {
+                    continue;
+                }
+                Integer id = studentIds.get(studentId);
+                if (paid == null || id == null || !paid.contains(id)) {
+                    unpaid.add(studentId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return unpaid;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private int idOf(String studentId) {
+        return studentIds.computeIfAbsent(studentId, key -> nextStudentId.getAndIncrement());
+    }
+
+    private RoaringBitmap bitmap(YearMonth month) {
+        return paidByMonth.computeIfAbsent(month, key -> new RoaringBitmap());
+    }
+}
@@ -0,0 +1,86 @@
+package com.school.feeservice.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive concurrency limiter using additive-increase / multiplicative-decrease.
+ * <p>
+ * A call that finishes under the latency threshold while the limiter was at least
+ * half busy raises the limit by one. A call that is slower than the threshold, or
+ * fails with a server error, cuts the limit by the backoff ratio. Callers beyond
+ * the current limit are rejected straight away instead of queueing.
+ */
+public class AimdLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+
+    public AimdLimiter(String name, ConcurrencyLimitProperties.Limiter config) {
+        this.name = name;
+        this.minLimit = config.getMinLimit();
+        this.maxLimit = config.getMaxLimit();
+        this.latencyThresholdNanos = config.getLatencyThreshold().toNanos();
+        this.backoffRatio = config.getBackoffRatio();
+        this.limit = Math.min(Math.max(config.getInitialLimit(), minLimit), maxLimit);
+    }
+
+    /**
+     * Takes a slot if one is free.
+     *
+     * @return false if the limiter is full and the call should be shed
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot taken by {@link #tryAcquire()} and feeds the outcome back into the limit.
+     *
+     * @param latencyNanos time the call held the slot
+     * @param failed       true if the call ended with a server-side error
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int busy = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (busy * 2 >= limit) {
+                // only grow when the current limit is actually being used
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,35 @@
+package com.school.feeservice.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectProvider<ConcurrencyLimiterRegistry> registry;
+
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties properties,
+                                  ObjectProvider<ConcurrencyLimiterRegistry> registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Bean
+    public ConcurrencyLimiterRegistry concurrencyLimiterRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConcurrencyLimiterRegistry(properties, meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        if (properties.isEnabled()) {
+            interceptors.addInterceptor(new ConcurrencyLimitInterceptor(registry.getObject()));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.school.feeservice.limit;
+
+import com.school.feeservice.exception.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies {@link ConcurrencyLimited} to controller methods. A request that finds its
+ * limiter full is rejected before reaching the controller.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+    private final ConcurrencyLimiterRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConcurrencyLimited limited = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+        if (limited == null) {
+            return true;
+        }
+        AimdLimiter limiter = registry.get(limited.value());
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException("Too many concurrent requests for " + limiter.getName()
+                    + ", limit=" + limiter.getLimit(), registry.getProperties().getRetryAfter());
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        AimdLimiter limiter = (AimdLimiter) request.getAttribute(LIMITER_ATTRIBUTE);
+        if (limiter == null) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long latency = System.nanoTime() - (Long) request.getAttribute(START_ATTRIBUTE);
+        // A 503 here is the app shedding or still warming up, not a sign of overload behind this limiter
+        int status = response.getStatus();
+        limiter.release(latency, ex != null || (status >= 500 && status != HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+    }
+}
@@ -0,0 +1,48 @@
+package com.school.feeservice.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for the adaptive concurrency limiters, keyed by the name used in {@link ConcurrencyLimited}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fee-service.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Value of the Retry-After header sent with 503 responses.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Map<String, Limiter> limiters = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limiter {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 200;
+
+        /**
+         * Calls slower than this count as a sign of overload and shrink the limit.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        /**
+         * Factor applied to the limit on overload.
+         */
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,22 @@
+package com.school.feeservice.limit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a controller method behind the named adaptive concurrency limiter.
+ * Methods sharing a name share one limit.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+    /**
+     * Limiter name, configured under fee-service.concurrency-limit.limiters.&lt;name&gt;
+     */
+    String value();
+}
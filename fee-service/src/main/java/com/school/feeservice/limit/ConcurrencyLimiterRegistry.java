@@ -0,0 +1,62 @@
+package com.school.feeservice.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link AimdLimiter} per name and exports its state as metrics:
+ * fee.concurrency.limit, fee.concurrency.inflight and fee.concurrency.rejected (tag: limiter).
+ */
+@Slf4j
+public class ConcurrencyLimiterRegistry {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AimdLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        properties.getLimiters().keySet().forEach(this::get);
+    }
+
+    /**
+     * Returns the named limiter, creating it with default settings if it is not configured.
+     */
+    public AimdLimiter get(String name) {
+        return limiters.computeIfAbsent(name, this::create);
+    }
+
+    public ConcurrencyLimitProperties getProperties() {
+        return properties;
+    }
+
+    private AimdLimiter create(String name) {
+        ConcurrencyLimitProperties.Limiter config = properties.getLimiters().get(name);
+        if (config == null) {
+            log.warn("No settings for concurrency limiter '{}', using defaults", name);
+            config = new ConcurrencyLimitProperties.Limiter();
+        }
+        AimdLimiter limiter = new AimdLimiter(name, config);
+        if (meterRegistry != null) {
+            Gauge.builder("fee.concurrency.limit", limiter, AimdLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+            Gauge.builder("fee.concurrency.inflight", limiter, AimdLimiter::getInFlight)
+                    .description("Requests currently holding a slot")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("fee.concurrency.rejected", limiter, AimdLimiter::getRejected)
+                    .description("Requests shed with 503 because the limit was reached")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+        }
+        return limiter;
+    }
+}
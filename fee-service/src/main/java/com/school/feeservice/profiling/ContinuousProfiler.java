@@ -0,0 +1,101 @@
+package com.school.feeservice.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.management.jfr.FlightRecorderMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Runs a continuous JFR recording bounded by max age and max size, and dumps
+ * the most recent part of it on demand.
+ */
+@Slf4j
+public class ContinuousProfiler implements AutoCloseable {
+
+    private final ProfilingProperties properties;
+    private Recording recording;
+
+    public ContinuousProfiler(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized void start() throws IOException, ParseException {
+        if (!properties.isEnabled()) {
+            log.debug("Continuous JFR recording disabled (fee-service.profiling.enabled=false)");
+            return;
+        }
+        Recording rolling = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        rolling.setName("fee-service-continuous");
+        rolling.setToDisk(true);
+        rolling.setMaxAge(properties.getMaxAge());
+        rolling.setMaxSize(properties.getMaxSize().toBytes());
+        rolling.enable(PaymentStageEvent.class);
+        rolling.enable(StudentServiceCallEvent.class);
+        rolling.start();
+        this.recording = rolling;
+        log.info("Continuous JFR recording started (settings={}, maxAge={}, maxSize={})",
+                properties.getSettings(), properties.getMaxAge(), properties.getMaxSize());
+    }
+
+    /**
+     * Writes the last {@code window} of the recording to a temporary .jfr file.
+     * JFR trims at chunk granularity, so the file may start a little earlier.
+     */
+    public Path dump(Duration window) throws IOException {
+        Recording current;
+        synchronized (this) {
+            current = this.recording;
+        }
+        if (current == null) {
+            throw new IllegalStateException("Continuous recording is not running");
+        }
+        FlightRecorderMXBean flightRecorder = ManagementFactory.getPlatformMXBean(FlightRecorderMXBean.class);
+        long cloneId = flightRecorder.cloneRecording(current.getId(), true);
+        Path file = Files.createTempFile("fee-service-", ".jfr");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            long streamId = flightRecorder.openStream(cloneId,
+                    Map.of("startTime", Instant.now().minus(window).toString()));
+            try {
+                byte[] block;
+                while ((block = flightRecorder.readStream(streamId)) != null) {
+                    out.write(block);
+                }
+            } finally {
+                flightRecorder.closeStream(streamId);
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        } finally {
+            flightRecorder.closeRecording(cloneId);
+        }
+        log.info("Dumped last {} of continuous recording to {} ({} bytes)", window, file, Files.size(file));
+        return file;
+    }
+
+    public synchronized boolean isRunning() {
+        return recording != null;
+    }
+
+    public Duration getMaxAge() {
+        return properties.getMaxAge();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.school.feeservice.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * GET /actuator/jfrdump?minutes=N downloads the last N minutes (default: the whole
+ * rolling window) of the continuous recording as a .jfr file for JDK Mission Control.
+ * Guarded by {@link JfrDumpTokenFilter}; answers 404 while profiling is disabled.
+ */
+@Endpoint(id = "jfrdump")
+public class JfrDumpEndpoint {
+
+    private final ContinuousProfiler profiler;
+
+    public JfrDumpEndpoint(ContinuousProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) throws IOException {
+        if (!profiler.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Duration window = minutes == null ? profiler.getMaxAge() : Duration.ofMinutes(minutes);
+        if (window.isNegative() || window.isZero()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(profiler.dump(window)));
+    }
+
+    /**
+     * Deletes the dump once it has been streamed to the client.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.school.feeservice.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Requires "Authorization: Bearer &lt;fee-service.profiling.dump-token&gt;" on the JFR dump
+ * endpoint. Recordings contain stack traces and request data, so the endpoint is closed
+ * entirely while no token is configured.
+ * <p>
+ * Applies to every request it is registered for: the registration's URL patterns are matched
+ * by the container on the decoded path without ";" parameters, the same path Spring MVC uses
+ * to pick the handler. Comparing the raw request URI here would let encoded variants through.
+ */
+public class JfrDumpTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] token;
+
+    public JfrDumpTokenFilter(String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (token == null) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "JFR dump token not configured");
+            return;
+        }
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER)
+                || !MessageDigest.isEqual(token, header.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,59 @@
+package com.school.feeservice.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * JFR event covering one stage of processFeePayment (duplicate check, student lookup, save).
+ * Costs next to nothing unless a recording has it enabled.
+ */
+@Name("com.school.feeservice.PaymentStage")
+@Label("Payment Stage")
+@Category({"Fee Service", "Payments"})
+@Description("Duration of one stage of a fee payment")
+@StackTrace(false)
+public class PaymentStageEvent extends Event {
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Student ID")
+    String studentId;
+
+    @Label("Failed")
+    boolean failed;
+
+    public static PaymentStageEvent start(String stage, String studentId) {
+        PaymentStageEvent event = new PaymentStageEvent();
+        event.stage = stage;
+        event.studentId = studentId;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean failed) {
+        this.failed = failed;
+        commit();
+    }
+
+    /**
+     * Runs {@code work} as one stage. The event is recorded whether the stage succeeds or throws.
+     */
+    public static <T> T record(String stage, String studentId, Supplier<T> work) {
+        PaymentStageEvent event = start(stage, studentId);
+        boolean failed = true;
+        try {
+            T result = work.get();
+            failed = false;
+            return result;
+        } finally {
+            event.finish(failed);
+        }
+    }
+}
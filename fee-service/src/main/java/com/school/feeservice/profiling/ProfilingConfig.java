@@ -0,0 +1,37 @@
+package com.school.feeservice.profiling;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Always-on JFR profiling, enabled with fee-service.profiling.enabled=true.
+ * The beans are always registered and the flag is checked when the recording starts,
+ * so the AOT-processed fast-start build can still switch it at runtime.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ContinuousProfiler continuousProfiler(ProfilingProperties properties) {
+        return new ContinuousProfiler(properties);
+    }
+
+    @Bean
+    public JfrDumpEndpoint jfrDumpEndpoint(ContinuousProfiler profiler) {
+        return new JfrDumpEndpoint(profiler);
+    }
+
+    @Bean
+    public FilterRegistrationBean<JfrDumpTokenFilter> jfrDumpTokenFilter(ProfilingProperties properties,
+                                                                         WebEndpointProperties endpoints) {
+        String path = endpoints.getBasePath() + "/jfrdump";
+        FilterRegistrationBean<JfrDumpTokenFilter> registration =
+                new FilterRegistrationBean<>(new JfrDumpTokenFilter(properties.getDumpToken()));
+        registration.addUrlPatterns(path, path + "/*");
+        return registration;
+    }
+}
@@ -0,0 +1,39 @@
+package com.school.feeservice.profiling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the always-on Java Flight Recorder session.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fee-service.profiling")
+public class ProfilingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * JFR settings to start from: "default" (~1% overhead) or "profile".
+     */
+    private String settings = "default";
+
+    /**
+     * How far back the rolling recording keeps data.
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * Upper bound on the disk used by the rolling recording.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+
+    /**
+     * Bearer token required by /actuator/jfrdump. The endpoint refuses all calls while unset.
+     */
+    private String dumpToken;
+}
@@ -0,0 +1,45 @@
+package com.school.feeservice.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one HTTP attempt against a Student Service replica.
+ */
+@Name("com.school.feeservice.StudentServiceCall")
+@Label("Student Service Call")
+@Category({"Fee Service", "Student Service"})
+@Description("One attempt against a Student Service replica, including hedged copies")
+@StackTrace(false)
+public class StudentServiceCallEvent extends Event {
+
+    @Label("Replica")
+    String replica;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+
+    @Label("Failed")
+    boolean failed;
+
+    public static StudentServiceCallEvent start(String replica, String path) {
+        StudentServiceCallEvent event = new StudentServiceCallEvent();
+        event.replica = replica;
+        event.path = path;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int status, boolean failed) {
+        this.status = status;
+        this.failed = failed;
+        commit();
+    }
+}
@@ -0,0 +1,13 @@
+package com.school.feeservice.repository;
+
+import com.school.feeservice.entity.ArchivedReceipt;
+import com.school.feeservice.enums.PaymentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ArchivedReceiptRepository extends JpaRepository<ArchivedReceipt, Long> {
+    List<ArchivedReceipt> findByStudentId(String studentId);
+
+    List<StudentPaymentView> findByPaymentStatus(PaymentStatus paymentStatus);
+}
@@ -1,6 +1,8 @@
 package com.school.feeservice.repository;
 
 import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.enums.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -14,4 +16,8 @@ public interface ReceiptRepository extends JpaRepository<Receipt, Long> {
 
     boolean existsByStudentIdAndPaymentDateBetween(String studentId, LocalDateTime start, LocalDateTime end);
 
+    List<Receipt> findByPaymentDateBefore(LocalDateTime cutoff, Pageable pageable);
+
+    List<StudentPaymentView> findByPaymentStatus(PaymentStatus paymentStatus);
+
 }
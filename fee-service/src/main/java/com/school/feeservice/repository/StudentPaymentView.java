@@ -0,0 +1,12 @@
+package com.school.feeservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of just the columns needed to rebuild the paid-students index.
+ */
+public interface StudentPaymentView {
+    String getStudentId();
+
+    LocalDateTime getPaymentDate();
+}
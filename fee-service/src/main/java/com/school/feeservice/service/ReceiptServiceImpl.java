@@ -5,22 +5,29 @@ import com.school.feeservice.dto.ReceiptRequestDTO;
 import com.school.feeservice.dto.ReceiptResponseDTO;
 import com.school.feeservice.dto.StudentClientResponse;
 import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.event.FeePaidEvent;
 import com.school.feeservice.exception.DuplicatePaymentException;
 import com.school.feeservice.exception.ReceiptNotFoundException;
 import com.school.feeservice.exception.StudentNotFoundException;
+import com.school.feeservice.profiling.PaymentStageEvent;
+import com.school.feeservice.repository.ArchivedReceiptRepository;
 import com.school.feeservice.repository.ReceiptRepository;
 import com.school.feeservice.util.ReceiptMapper;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.school.feeservice.util.ReceiptMapper.maskCardNumber;
 
@@ -31,7 +38,9 @@ import static com.school.feeservice.util.ReceiptMapper.maskCardNumber;
 public class ReceiptServiceImpl implements ReceiptService {
 
     private final ReceiptRepository repository;
+    private final ArchivedReceiptRepository archiveRepository;
     private final StudentClient studentClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Handles fee collection workflow:
@@ -49,23 +58,30 @@ public class ReceiptServiceImpl implements ReceiptService {
         LocalDateTime start = today.withDayOfMonth(1).atStartOfDay();
         LocalDateTime end = today.withDayOfMonth(today.lengthOfMonth()).atTime(23, 59, 59);
 
-        boolean alreadyPaid = repository.existsByStudentIdAndPaymentDateBetween(request.getStudentId(), start, end);
+        boolean alreadyPaid = PaymentStageEvent.record("duplicate-check", request.getStudentId(),
+                () -> repository.existsByStudentIdAndPaymentDateBetween(request.getStudentId(), start, end));
         if (alreadyPaid) {
             log.warn("Duplicate payment detected for studentId={}", request.getStudentId());
             throw new DuplicatePaymentException("Fees for this month already paid for student: " + request.getStudentId());
         }
 
         //  Fetch student info (wrapped by CB)
-        StudentClientResponse student = getStudentDetailsWithResilience(request.getStudentId());
+        StudentClientResponse student = PaymentStageEvent.record("student-lookup", request.getStudentId(),
+                () -> getStudentDetailsWithResilience(request.getStudentId()));
 
         //  Save successful payment
         Receipt entity = ReceiptMapper.toEntity(request);
-        entity.setPaymentStatus("SUCCESS");
-        Receipt saved = repository.save(entity);
+        entity.setPaymentStatus(PaymentStatus.SUCCESS);
+        Receipt saved = PaymentStageEvent.record("save", request.getStudentId(), () -> repository.save(entity));
 
         log.info("Receipt saved id={}, receiptNumber={}, status={}",
                 saved.getId(), saved.getReceiptNumber(), saved.getPaymentStatus());
 
+        //  Let the paid-students index pick it up once committed
+        if (saved.getPaymentStatus() == PaymentStatus.SUCCESS) {
+            eventPublisher.publishEvent(new FeePaidEvent(saved.getStudentId(), saved.getPaymentDate()));
+        }
+
         //  Prepare response
         ReceiptResponseDTO response = ReceiptMapper.toDto(saved);
         response.setStudentName(student.getName());
@@ -105,25 +121,34 @@ public class ReceiptServiceImpl implements ReceiptService {
     }
 
     /**
-     * Get receipt by ID
+     * Get receipt by ID (hot table first, then the archive)
      */
     @Override
+    @Transactional(readOnly = true)
     public ReceiptResponseDTO getReceipt(Long id) {
         log.info("Fetching receipt by id={}", id);
-        Receipt receipt = repository.findById(id)
+        return repository.findById(id)
+                .map(ReceiptMapper::toDto)
+                .or(() -> archiveRepository.findById(id).map(ReceiptMapper::toDto))
                 .orElseThrow(() -> new ReceiptNotFoundException("Receipt not found: " + id));
-        return ReceiptMapper.toDto(receipt);
     }
 
     /**
-     * Get all receipts by studentId
+     * Get all receipts by studentId. The hot table is queried before the archive, so a
+     * batch the archive job moves in between is still found there. Results are returned
+     * archived receipts first, then hot ones, each receipt once.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<ReceiptResponseDTO> getReceiptsByStudent(String studentId) {
         log.info("Fetching all receipts for studentId={}", studentId);
-        return repository.findByStudentId(studentId)
-                .stream()
-                .map(ReceiptMapper::toDto)
+        List<Receipt> hot = repository.findByStudentId(studentId);
+        Set<Long> hotIds = hot.stream().map(Receipt::getId).collect(Collectors.toSet());
+        return Stream.concat(
+                        archiveRepository.findByStudentId(studentId).stream()
+                                .filter(archived -> !hotIds.contains(archived.getId()))
+                                .map(ReceiptMapper::toDto),
+                        hot.stream().map(ReceiptMapper::toDto))
                 .collect(Collectors.toList());
     }
 }
@@ -2,7 +2,10 @@ package com.school.feeservice.util;
 
 import com.school.feeservice.dto.ReceiptRequestDTO;
 import com.school.feeservice.dto.ReceiptResponseDTO;
+import com.school.feeservice.entity.ArchivedReceipt;
 import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
 
 public class ReceiptMapper {
 
@@ -15,7 +18,7 @@ public class ReceiptMapper {
 
         // Mask card number before persisting (DB never stores real PAN)
         String maskedCard = null;
-        if ("CARD".equalsIgnoreCase(dto.getPaymentMode()) && dto.getCardNumber() != null) {
+        if (dto.getPaymentMode() == PaymentMode.CARD && dto.getCardNumber() != null) {
             maskedCard = maskCardNumber(dto.getCardNumber());
         }
 
@@ -23,7 +26,7 @@ public class ReceiptMapper {
                 .studentId(dto.getStudentId())
                 .amount(dto.getAmount())
                 .paymentMode(dto.getPaymentMode())
-                .paymentStatus(dto.getPaymentStatus() != null ? dto.getPaymentStatus() : "PENDING")
+                .paymentStatus(dto.getPaymentStatus() != null ? dto.getPaymentStatus() : PaymentStatus.PENDING)
                 .remarks(dto.getRemarks())
                 .cardNumber(maskedCard) // ✅ only masked version stored
                 .build();
@@ -52,6 +55,29 @@ public class ReceiptMapper {
                 .build();
     }
 
+    /**
+     * Converts archived Entity → DTO (Response).
+     * Same shape as a hot receipt, so callers cannot tell where it was read from.
+     */
+    public static ReceiptResponseDTO toDto(ArchivedReceipt entity) {
+        if (entity == null) return new ReceiptResponseDTO();
+
+        return ReceiptResponseDTO.builder()
+                .id(entity.getId())
+                .receiptNumber(entity.getReceiptNumber())
+                .studentId(entity.getStudentId())
+                .studentName(entity.getStudentName())
+                .grade(entity.getGrade())
+                .schoolName(entity.getSchoolName())
+                .amount(entity.getAmount())
+                .paymentMode(entity.getPaymentMode())
+                .paymentStatus(entity.getPaymentStatus())
+                .remarks(entity.getRemarks())
+                .paymentDate(entity.getPaymentDate())
+                .cardNumber(entity.getCardNumber())
+                .build();
+    }
+
     /**
      * Masks card number.
      * Example: 1234567812345678 → 12****78
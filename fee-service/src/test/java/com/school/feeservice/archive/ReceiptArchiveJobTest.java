@@ -0,0 +1,102 @@
+package com.school.feeservice.archive;
+
+import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.repository.ArchivedReceiptRepository;
+import com.school.feeservice.repository.ReceiptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the archive job against the embedded database.
+ */
+@DataJpaTest
+class ReceiptArchiveJobTest {
+
+    @Autowired
+    private ReceiptRepository repository;
+
+    @Autowired
+    private ArchivedReceiptRepository archiveRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ReceiptArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        ReceiptArchiveProperties properties = new ReceiptArchiveProperties();
+        properties.setHotMonths(3);
+        properties.setBatchSize(2);
+        job = new ReceiptArchiveJob(repository, archiveRepository, properties, transactionManager);
+    }
+
+    @Test
+    void testArchiveBefore_MovesOldReceiptsInBatches() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 8, 1, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            save("REC-OLD-" + i, cutoff.minusDays(i + 1));
+        }
+        Receipt recent = save("REC-NEW", cutoff.plusDays(3));
+
+        int moved = job.archiveBefore(cutoff);
+
+        assertThat(moved).isEqualTo(5);
+        assertThat(repository.findAll()).extracting(Receipt::getReceiptNumber).containsExactly("REC-NEW");
+        assertThat(archiveRepository.findByStudentId("S-1")).hasSize(5);
+        assertThat(archiveRepository.findById(recent.getId())).isEmpty();
+    }
+
+    @Test
+    void testArchiveBefore_KeepsOriginalIds() {
+        Receipt old = save("REC-OLD", LocalDateTime.of(2024, 1, 15, 10, 0));
+
+        job.archiveBefore(LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        assertThat(archiveRepository.findById(old.getId()))
+                .hasValueSatisfying(archived -> assertThat(archived.getReceiptNumber()).isEqualTo("REC-OLD"));
+    }
+
+    @Test
+    void testCutoff_KeepsConfiguredHotMonths() {
+        assertThat(job.cutoff(LocalDate.of(2025, 10, 19))).isEqualTo(LocalDateTime.of(2025, 8, 1, 0, 0));
+    }
+
+    @Test
+    void testSchedule_UsesConfiguredCronOnlyWhenEnabled() {
+        ReceiptArchiveProperties properties = new ReceiptArchiveProperties();
+        properties.setCron("0 0 4 * * *");
+        ScheduledTaskRegistrar enabled = new ScheduledTaskRegistrar();
+        new ReceiptArchiveConfig().receiptArchiveSchedule(job, properties).configureTasks(enabled);
+
+        properties.setEnabled(false);
+        ScheduledTaskRegistrar disabled = new ScheduledTaskRegistrar();
+        new ReceiptArchiveConfig().receiptArchiveSchedule(job, properties).configureTasks(disabled);
+
+        assertThat(enabled.getCronTaskList()).extracting(CronTask::getExpression).containsExactly("0 0 4 * * *");
+        assertThat(disabled.getCronTaskList()).isEmpty();
+    }
+
+    private Receipt save(String receiptNumber, LocalDateTime paymentDate) {
+        return repository.save(Receipt.builder()
+                .receiptNumber(receiptNumber)
+                .studentId("S-1")
+                .amount(1000.0)
+                .paymentMode(PaymentMode.CASH)
+                .paymentStatus(PaymentStatus.SUCCESS)
+                .paymentDate(paymentDate)
+                .build());
+    }
+}
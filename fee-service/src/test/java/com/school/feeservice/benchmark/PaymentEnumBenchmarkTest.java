@@ -0,0 +1,174 @@
+package com.school.feeservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.school.feeservice.dto.ReceiptRequestDTO;
+import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.repository.ReceiptRepository;
+import lombok.Data;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the enum-typed payment mode/status with the previous String + regex version:
+ * CPU to read and check a request, and bytes per row and per status index entry.
+ * The regex cost is measured directly since @Pattern is what ran per request before.
+ * Excluded from the default build; run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentEnumBenchmarkTest {
+
+    private static final int ROWS = 50_000;
+    private static final int CHECK_ROUNDS = 200_000;
+
+    private static final String[] MODES = {"CARD", "UPI", "CASH"};
+    private static final String[] STATUSES = {"SUCCESS", "PENDING", "FAILED"};
+
+    // The former @Pattern constraints on ReceiptRequestDTO
+    private static final Pattern MODE_PATTERN = Pattern.compile("^(CARD|UPI|CASH)$");
+    private static final Pattern STATUS_PATTERN = Pattern.compile("^(SUCCESS|PENDING|FAILED)$");
+
+    @Autowired
+    private ReceiptRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private long cardRequests;
+
+    @BeforeAll
+    void setUp() {
+        List<Receipt> receipts = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            receipts.add(Receipt.builder()
+                    .receiptNumber("REC-ENUM-" + i)
+                    .studentId("S-" + (i % 5_000))
+                    .amount(1000.0 + i)
+                    .paymentMode(PaymentMode.values()[i % 3])
+                    .paymentStatus(PaymentStatus.values()[i % 3])
+                    .build());
+        }
+        repository.saveAll(receipts);
+
+        // The previous schema: the same table with VARCHAR(20) mode/status and the same status index
+        jdbc.execute("CREATE TABLE receipts_legacy AS SELECT * FROM receipts WITH NO DATA");
+        jdbc.execute("ALTER TABLE receipts_legacy ALTER COLUMN payment_mode VARCHAR(20)");
+        jdbc.execute("ALTER TABLE receipts_legacy ALTER COLUMN payment_status VARCHAR(20)");
+        jdbc.execute("CREATE INDEX idx_receipts_legacy_status_date ON receipts_legacy (payment_status, payment_date)");
+        jdbc.execute("INSERT INTO receipts_legacy SELECT * FROM receipts");
+        jdbc.execute("UPDATE receipts_legacy SET"
+                + " payment_mode = CASE payment_mode WHEN 'C' THEN 'CARD' WHEN 'U' THEN 'UPI' ELSE 'CASH' END,"
+                + " payment_status = CASE payment_status WHEN 'S' THEN 'SUCCESS' WHEN 'P' THEN 'PENDING' ELSE 'FAILED' END");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbc.execute("DROP TABLE IF EXISTS receipts_legacy");
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareValidation() throws Exception {
+        List<String> bodies = new ArrayList<>();
+        for (String mode : MODES) {
+            for (String status : STATUSES) {
+                bodies.add("{\"studentId\":\"S-001\",\"amount\":5000.0,\"paymentMode\":\"" + mode
+                        + "\",\"paymentStatus\":\"" + status + "\",\"cardNumber\":\"1234567812345678\"}");
+            }
+        }
+
+        double legacyNanos = readAndCheckNanos(bodies, LegacyReceiptRequestDTO.class);
+        double enumNanos = readAndCheckNanos(bodies, ReceiptRequestDTO.class);
+
+        System.out.printf("%n%-24s %12s%n", "request type", "cpu ns/op");
+        System.out.printf("%-24s %12.0f%n", "String + regex", legacyNanos);
+        System.out.printf("%-24s %12.0f%n", "enum", enumNanos);
+        assertThat(cardRequests).isPositive();
+    }
+
+    @Test
+    void compareRowSize() {
+        long[] legacy = columnBytes("receipts_legacy");
+        long[] compact = columnBytes("receipts");
+
+        System.out.printf("%n%-10s %22s %22s%n", "schema", "mode+status bytes/row", "status idx key bytes");
+        System.out.printf("%-10s %22.2f %22.2f%n", "VARCHAR", (double) legacy[0] / ROWS, (double) legacy[1] / ROWS);
+        System.out.printf("%-10s %22.2f %22.2f%n", "CHAR(1)", (double) compact[0] / ROWS, (double) compact[1] / ROWS);
+
+        assertThat(compact[0]).isLessThan(legacy[0]);
+        assertThat(compact[1]).isLessThan(legacy[1]);
+    }
+
+    private double readAndCheckNanos(List<String> bodies, Class<?> type) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < CHECK_ROUNDS; i++) {
+            readAndCheck(bodies.get(i % bodies.size()), type);
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < CHECK_ROUNDS; i++) {
+            readAndCheck(bodies.get(i % bodies.size()), type);
+        }
+        return (double) (threads.getCurrentThreadCpuTime() - start) / CHECK_ROUNDS;
+    }
+
+    private void readAndCheck(String body, Class<?> type) throws Exception {
+        Object request = mapper.readValue(body, type);
+        boolean card;
+        if (request instanceof LegacyReceiptRequestDTO legacy) {
+            if (!MODE_PATTERN.matcher(legacy.getPaymentMode()).matches()
+                    || !STATUS_PATTERN.matcher(legacy.getPaymentStatus()).matches()) {
+                throw new IllegalStateException("Benchmark request rejected: " + body);
+            }
+            card = "CARD".equalsIgnoreCase(legacy.getPaymentMode());
+        } else {
+            // Unknown values already failed in PaymentMode/PaymentStatus.fromValue
+            card = ((ReceiptRequestDTO) request).getPaymentMode() == PaymentMode.CARD;
+        }
+        if (card) {
+            cardRequests++;
+        }
+    }
+
+    /**
+     * Returns {mode + status bytes, status bytes} summed over all rows.
+     */
+    private long[] columnBytes(String table) {
+        return jdbc.queryForObject("SELECT SUM(OCTET_LENGTH(payment_mode) + OCTET_LENGTH(payment_status)),"
+                        + " SUM(OCTET_LENGTH(payment_status)) FROM " + table,
+                (rs, row) -> new long[] {rs.getLong(1), rs.getLong(2)});
+    }
+
+    /**
+     * The payment fields of the request DTO as they were before the enums: free strings.
+     */
+    @Data
+    static class LegacyReceiptRequestDTO {
+        private String studentId;
+        private Double amount;
+        private String paymentMode;
+        private String remarks;
+        private String paymentStatus;
+        private String cardNumber;
+    }
+}
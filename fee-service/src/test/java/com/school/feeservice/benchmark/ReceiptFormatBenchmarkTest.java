@@ -0,0 +1,156 @@
+package com.school.feeservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.school.feeservice.config.ReceiptFormatConfig;
+import com.school.feeservice.dto.ReceiptResponseDTO;
+import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.repository.ReceiptRepository;
+import com.school.feeservice.util.ReceiptMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares JSON, Smile and CBOR for GET /api/receipts/student/{studentId}:
+ * serialisation CPU, bytes on the wire (with and without gzip) and end-to-end latency.
+ * Excluded from the default build; run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReceiptFormatBenchmarkTest {
+
+    private static final String STUDENT_ID = "S-BENCH";
+    private static final int RECEIPTS = 2_000;
+    private static final int SERIALISE_ROUNDS = 200;
+    private static final int WARMUP = 30;
+    private static final int REQUESTS = 100;
+
+    private static final List<String> FORMATS = List.of(
+            MediaType.APPLICATION_JSON_VALUE,
+            ReceiptFormatConfig.APPLICATION_SMILE_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReceiptRepository repository;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeAll
+    void seed() {
+        List<Receipt> receipts = new ArrayList<>(RECEIPTS);
+        for (int i = 0; i < RECEIPTS; i++) {
+            receipts.add(Receipt.builder()
+                    .receiptNumber("REC-BENCH-" + i)
+                    .studentId(STUDENT_ID)
+                    .studentName("Bench Student")
+                    .grade("10")
+                    .schoolName("Delhi Public School")
+                    .amount(1000.0 + i)
+                    .paymentMode(i % 2 == 0 ? PaymentMode.UPI : PaymentMode.CARD)
+                    .paymentStatus(PaymentStatus.SUCCESS)
+                    .remarks("Term fee " + i)
+                    .cardNumber(i % 2 == 0 ? null : "12****78")
+                    .build());
+        }
+        repository.saveAll(receipts);
+    }
+
+    @Test
+    void compareFormats() throws Exception {
+        List<ReceiptResponseDTO> payload = repository.findByStudentId(STUDENT_ID).stream()
+                .map(ReceiptMapper::toDto)
+                .toList();
+
+        System.out.printf("%n%-28s %-9s %12s %12s %10s %10s%n",
+                "format", "encoding", "cpu us/op", "bytes", "p50 ms", "p99 ms");
+        long jsonBytes = 0;
+        for (String format : FORMATS) {
+            double cpuMicros = serialiseCpuMicros(mapperFor(format), payload);
+            for (String encoding : List.of("identity", "gzip")) {
+                long[] latencies = new long[REQUESTS];
+                int bytes = 0;
+                for (int i = -WARMUP; i < REQUESTS; i++) {
+                    long start = System.nanoTime();
+                    HttpResponse<byte[]> response = fetch(format, encoding);
+                    long elapsed = System.nanoTime() - start;
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    if (i >= 0) {
+                        latencies[i] = elapsed;
+                        bytes = response.body().length;
+                    }
+                }
+                Arrays.sort(latencies);
+                System.out.printf("%-28s %-9s %12.1f %12d %10.2f %10.2f%n", format, encoding, cpuMicros, bytes,
+                        latencies[REQUESTS / 2] / 1e6, latencies[(int) (REQUESTS * 0.99) - 1] / 1e6);
+
+                if (format.equals(MediaType.APPLICATION_JSON_VALUE) && encoding.equals("identity")) {
+                    jsonBytes = bytes;
+                } else if (encoding.equals("identity")) {
+                    assertThat(bytes).isLessThan((int) jsonBytes);
+                }
+            }
+        }
+    }
+
+    private HttpResponse<byte[]> fetch(String format, String encoding) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/receipts/student/" + STUDENT_ID))
+                .header("Accept", format)
+                .header("Accept-Encoding", encoding)
+                .GET()
+                .build();
+        // HttpClient does not decompress, so the body length is the size on the wire
+        return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private ObjectMapper mapperFor(String format) {
+        MediaType mediaType = MediaType.parseMediaType(format);
+        return handlerAdapter.getMessageConverters().stream()
+                .filter(AbstractJackson2HttpMessageConverter.class::isInstance)
+                .map(AbstractJackson2HttpMessageConverter.class::cast)
+                .filter(converter -> converter.getSupportedMediaTypes().contains(mediaType))
+                .findFirst()
+                .orElseThrow()
+                .getObjectMapper();
+    }
+
+    private static double serialiseCpuMicros(ObjectMapper mapper, List<ReceiptResponseDTO> payload) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < SERIALISE_ROUNDS; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < SERIALISE_ROUNDS; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / 1e3 / SERIALISE_ROUNDS;
+    }
+}
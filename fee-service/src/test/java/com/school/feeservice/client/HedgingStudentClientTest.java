@@ -0,0 +1,192 @@
+package com.school.feeservice.client;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs HedgingStudentClient against local stub replicas with injected latency.
+ */
+class HedgingStudentClientTest {
+
+    private static final long FAST_MS = 5;
+    private static final long SLOW_MS = 300;
+
+    private final List<StubReplica> stubs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        stubs.forEach(stub -> stub.server.stop(0));
+    }
+
+    @Test
+    void testLoadBalancer_AvoidsSlowReplica() throws Exception {
+        StubReplica slow = stub(SLOW_MS, 0);
+        StubReplica fast = stub(FAST_MS, 0);
+
+        HedgingStudentClient client = client(false, slow, fast);
+        long[] latencies = run(client, 40);
+
+        assertThat(fast.hits.get()).isGreaterThanOrEqualTo(37);
+        assertThat(percentile(latencies, 0.9)).isLessThan(TimeUnit.MILLISECONDS.toNanos(SLOW_MS / 2));
+        client.close();
+    }
+
+    @Test
+    void testHedging_CutsTailLatency() throws Exception {
+        // Both replicas stall on every 30th request they serve (~3% of calls)
+        StubReplica a = stub(FAST_MS, 30);
+        StubReplica b = stub(FAST_MS, 30);
+
+        HedgingStudentClient plain = client(false, a, b);
+        long p99Plain = percentile(run(plain, 240), 0.99);
+        plain.close();
+
+        HedgingStudentClient hedged = client(true, a, b);
+        long p99Hedged = percentile(run(hedged, 240), 0.99);
+        hedged.close();
+
+        assertThat(p99Plain).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(SLOW_MS));
+        assertThat(p99Hedged).isLessThan(TimeUnit.MILLISECONDS.toNanos(SLOW_MS / 2));
+    }
+
+    @Test
+    void testHedging_BoundedPoolFallsBackToCallerThread() throws Exception {
+        StubReplica a = stub(SLOW_MS, 0);
+        StubReplica b = stub(SLOW_MS, 0);
+        HedgingStudentClient client = client(true, 1, a, b);
+
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        List<Future<Integer>> statuses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String studentId = "S-" + i;
+            statuses.add(callers.submit(() -> {
+                try (Response response = client.execute(request(studentId), new Request.Options())) {
+                    return response.status();
+                }
+            }));
+        }
+        for (Future<Integer> status : statuses) {
+            assertThat(status.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+        }
+        callers.shutdown();
+
+        assertThat(client.largestPoolSize()).isEqualTo(1);
+        client.close();
+    }
+
+    @Test
+    void testRequest_RewrittenToReplica() throws Exception {
+        StubReplica only = stub(0, 0);
+        HedgingStudentClient client = client(true, only);
+
+        Response response = client.execute(request("S-42"), new Request.Options());
+        String body = new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(body).contains("\"studentId\":\"S-42\"");
+        assertThat(only.hits.get()).isEqualTo(1);
+        client.close();
+    }
+
+    private HedgingStudentClient client(boolean hedgingEnabled, StubReplica... replicas) {
+        return client(hedgingEnabled, 32, replicas);
+    }
+
+    private HedgingStudentClient client(boolean hedgingEnabled, int maxThreads, StubReplica... replicas) {
+        StudentServiceProperties properties = new StudentServiceProperties();
+        properties.setReplicas(Arrays.stream(replicas).map(StubReplica::baseUrl).toList());
+        properties.getHedging().setEnabled(hedgingEnabled);
+        properties.getHedging().setMaxThreads(maxThreads);
+        properties.getHedging().setInitialDelay(Duration.ofMillis(50));
+        return new HedgingStudentClient(new Client.Default(null, null),
+                new LatencyAwareLoadBalancer(properties), properties.getHedging());
+    }
+
+    private long[] run(HedgingStudentClient client, int calls) throws IOException {
+        long[] latencies = new long[calls];
+        for (int i = 0; i < calls; i++) {
+            long start = System.nanoTime();
+            try (Response response = client.execute(request("S-" + i), new Request.Options())) {
+                assertThat(response.status()).isEqualTo(200);
+            }
+            latencies[i] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    private static Request request(String studentId) {
+        return Request.create(Request.HttpMethod.GET,
+                HedgingStudentClient.LOGICAL_HOST + "/api/students/" + studentId,
+                Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static long percentile(long[] latencies, double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    /**
+     * Stub Student Service replica. Every {@code stallEvery}-th request takes SLOW_MS,
+     * the rest take {@code latencyMs}.
+     */
+    private StubReplica stub(long latencyMs, int stallEvery) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        StubReplica stub = new StubReplica(server);
+        server.createContext("/api/students/", exchange -> {
+            int hit = stub.hits.incrementAndGet();
+            sleep(stallEvery > 0 && hit % stallEvery == stallEvery / 2 ? SLOW_MS : latencyMs);
+            String id = exchange.getRequestURI().getPath().substring("/api/students/".length());
+            byte[] body = ("{\"studentId\":\"" + id + "\",\"name\":\"Stub\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        stubs.add(stub);
+        return stub;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StubReplica(HttpServer server, AtomicInteger hits) {
+
+        StubReplica(HttpServer server) {
+            this(server, new AtomicInteger());
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.school.feeservice.config;
+
+import com.school.feeservice.client.StudentClient;
+import com.school.feeservice.dto.ReceiptRequestDTO;
+import com.school.feeservice.dto.StudentClientResponse;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.index.PaidStudentIndex;
+import com.school.feeservice.service.ReceiptService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the service against two separate in-memory databases to check that
+ * read-only work goes to the replica and writes go to the primary.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "fee-service.datasource.replica.enabled=true",
+        "fee-service.datasource.replica.jdbc-url=" + ReadReplicaDataSourceConfigTest.REPLICA_URL
+})
+class ReadReplicaDataSourceConfigTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ReceiptService receiptService;
+
+    @Autowired
+    @Qualifier("primary")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PaidStudentIndex paidStudentIndex;
+
+    @MockitoBean
+    private StudentClient studentClient;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+        // Stand-in for replication: copy the schema Hibernate created on the primary
+        replica.execute("DROP ALL OBJECTS");
+        primary.queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(sql -> sql.startsWith("CREATE") || sql.startsWith("ALTER"))
+                .filter(sql -> !sql.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+        replica.update("INSERT INTO receipts (id, receipt_number, student_id, amount, payment_mode, payment_status,"
+                + " payment_date) VALUES (900, 'REC-REPLICA', 'S-R', 100.0, 'H', 'S', CURRENT_TIMESTAMP)");
+    }
+
+    @Test
+    void testQueries_ReadFromReplica() {
+        assertThat(receiptService.getReceipt(900L).getReceiptNumber()).isEqualTo("REC-REPLICA");
+        assertThat(receiptService.getReceiptsByStudent("S-R")).hasSize(1);
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM receipts WHERE id = 900", Integer.class)).isZero();
+    }
+
+    @Test
+    void testIndexLoad_ReadsFromPrimary() {
+        primary.update("INSERT INTO receipts (id, receipt_number, student_id, amount, payment_mode, payment_status,"
+                + " payment_date) VALUES (901, 'REC-PRIMARY', 'S-P', 100.0, 'H', 'S', CURRENT_TIMESTAMP)");
+        try {
+            paidStudentIndex.load();
+
+            assertThat(paidStudentIndex.unpaid(YearMonth.now(), List.of("S-P", "S-R"))).containsExactly("S-R");
+        } finally {
+            primary.update("DELETE FROM receipts WHERE id = 901");
+        }
+    }
+
+    @Test
+    void testRouting_SwitchedByFlagAtRuntime() throws Exception {
+        DataSource disabled = ReadReplicaDataSourceConfig.routingDataSource((HikariDataSource) primaryDataSource,
+                new Binder(new MapConfigurationPropertySource(Map.of(
+                        "fee-service.datasource.replica.enabled", "false",
+                        "fee-service.datasource.replica.jdbc-url", REPLICA_URL))));
+
+        assertThat(readOnlyConnectionUrl(dataSource)).contains("routing_replica");
+        assertThat(readOnlyConnectionUrl(disabled)).contains("routing_primary");
+    }
+
+    @Test
+    void testPayment_WritesToPrimary() {
+        when(studentClient.getByStudentId(anyString())).thenReturn(
+                StudentClientResponse.builder().studentId("S-W").name("Writer").build());
+
+        receiptService.processFeePayment(ReceiptRequestDTO.builder()
+                .studentId("S-W")
+                .amount(500.0)
+                .paymentMode(PaymentMode.CASH)
+                .build());
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM receipts WHERE student_id = 'S-W'", Integer.class))
+                .isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM receipts WHERE student_id = 'S-W'", Integer.class))
+                .isZero();
+    }
+
+    private static String readOnlyConnectionUrl(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // The routing proxy picks the pool when the physical connection is first needed
+            connection.setReadOnly(true);
+            return connection.getMetaData().getURL();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.school.feeservice.controller;
+
+import com.school.feeservice.index.PaidStudentIndex;
+import com.school.feeservice.limit.ConcurrencyLimiterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for PaidStatusController.
+ */
+@WebMvcTest(PaidStatusController.class)
+class PaidStatusControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PaidStudentIndex index;
+
+    @Autowired
+    private ConcurrencyLimiterRegistry limiterRegistry;
+
+    @Test
+    void testGetPaidCount() throws Exception {
+        when(index.isLoaded()).thenReturn(true);
+        when(index.paidCount(YearMonth.of(2025, 10))).thenReturn(42);
+
+        mockMvc.perform(get("/api/receipts/paid-status/2025-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.month").value("2025-10"))
+                .andExpect(jsonPath("$.paidCount").value(42));
+    }
+
+    @Test
+    void testGetUnpaidStudents() throws Exception {
+        when(index.isLoaded()).thenReturn(true);
+        when(index.unpaid(eq(YearMonth.of(2025, 10)), any())).thenReturn(List.of("S-2"));
+
+        mockMvc.perform(post("/api/receipts/paid-status/2025-10/unpaid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"studentIds": ["S-1", "S-2", "S-3", "S-1"]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rosterSize").value(3))
+                .andExpect(jsonPath("$.paidCount").value(2))
+                .andExpect(jsonPath("$.unpaidCount").value(1))
+                .andExpect(jsonPath("$.unpaidStudentIds[0]").value("S-2"));
+    }
+
+    @Test
+    void testGetPaidCount_IndexLoading() throws Exception {
+        when(index.isLoaded()).thenReturn(false);
+
+        mockMvc.perform(get("/api/receipts/paid-status/2025-10"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void testGetPaidCount_IndexLoadingDoesNotShrinkReadsLimit() throws Exception {
+        when(index.isLoaded()).thenReturn(false);
+        int limit = limiterRegistry.get("reads").getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(get("/api/receipts/paid-status/2025-10"))
+                    .andExpect(status().isServiceUnavailable());
+        }
+
+        assertThat(limiterRegistry.get("reads").getLimit()).isGreaterThanOrEqualTo(limit);
+    }
+
+    @Test
+    void testGetUnpaidStudents_RejectsNullStudentIds() throws Exception {
+        when(index.isLoaded()).thenReturn(true);
+
+        mockMvc.perform(post("/api/receipts/paid-status/2025-10/unpaid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"studentIds": ["S-1", null]}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/receipts/paid-status/2025-10/unpaid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,7 +1,16 @@
 package com.school.feeservice.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.school.feeservice.config.ReceiptFormatConfig;
 import com.school.feeservice.dto.ReceiptRequestDTO;
 import com.school.feeservice.dto.ReceiptResponseDTO;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.limit.AimdLimiter;
+import com.school.feeservice.limit.ConcurrencyLimiterRegistry;
 import com.school.feeservice.service.ReceiptService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +22,11 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +44,9 @@ class ReceiptControllerTest {
     @MockitoBean
     private ReceiptService receiptService;
 
+    @Autowired
+    private ConcurrencyLimiterRegistry limiterRegistry;
+
     @Test
     void testCollectFee() throws Exception {
         ReceiptResponseDTO response = ReceiptResponseDTO.builder()
@@ -41,9 +57,9 @@ class ReceiptControllerTest {
                 .grade("10")
                 .schoolName("Delhi Public School")
                 .amount(5000.0)
-                .paymentMode("CARD")
+                .paymentMode(PaymentMode.CARD)
                 .cardNumber("XXXX-XXXX-XXXX-4321") //  optional field
-                .paymentStatus("PAID")
+                .paymentStatus(PaymentStatus.SUCCESS)
                 .remarks("Fee collected successfully")
                 .paymentDate(LocalDateTime.now())
                 .build();
@@ -64,10 +80,51 @@ class ReceiptControllerTest {
                         .content(json))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.studentId").value("S-001"))
-                .andExpect(jsonPath("$.paymentStatus").value("PAID"))
+                .andExpect(jsonPath("$.paymentStatus").value("SUCCESS"))
                 .andExpect(jsonPath("$.cardNumber").value("XXXX-XXXX-XXXX-4321"));
     }
 
+    @Test
+    void testCollectFee_AcceptsLowercasePaymentMode() throws Exception {
+        when(receiptService.processFeePayment(any(ReceiptRequestDTO.class)))
+                .thenReturn(ReceiptResponseDTO.builder().id(1L).paymentMode(PaymentMode.CASH).build());
+
+        mockMvc.perform(post("/api/receipts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"studentId": "S-001", "amount": 5000.0, "paymentMode": "cash", "paymentStatus": "pending"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paymentMode").value("CASH"));
+
+        verify(receiptService).processFeePayment(argThat(request ->
+                request.getPaymentMode() == PaymentMode.CASH && request.getPaymentStatus() == PaymentStatus.PENDING));
+    }
+
+    @Test
+    void testCollectFee_RejectsMissingPaymentMode() throws Exception {
+        mockMvc.perform(post("/api/receipts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"studentId": "S-001", "amount": 5000.0}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Payment mode is required"));
+
+        verify(receiptService, never()).processFeePayment(any());
+    }
+
+    @Test
+    void testCollectFee_RejectsUnknownPaymentMode() throws Exception {
+        mockMvc.perform(post("/api/receipts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"studentId": "S-001", "amount": 5000.0, "paymentMode": "CHEQUE"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Payment mode must be CARD, UPI, or CASH"));
+    }
+
     @Test
     void testGetReceipt() throws Exception {
         ReceiptResponseDTO response = ReceiptResponseDTO.builder()
@@ -78,8 +135,8 @@ class ReceiptControllerTest {
                 .grade("10")
                 .schoolName("Delhi Public School")
                 .amount(5000.0)
-                .paymentMode("UPI")
-                .paymentStatus("PAID")
+                .paymentMode(PaymentMode.UPI)
+                .paymentStatus(PaymentStatus.SUCCESS)
                 .remarks("Fee collected successfully")
                 .paymentDate(LocalDateTime.now())
                 .build();
@@ -90,7 +147,7 @@ class ReceiptControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.studentId").value("S-001"))
-                .andExpect(jsonPath("$.paymentStatus").value("PAID"));
+                .andExpect(jsonPath("$.paymentStatus").value("SUCCESS"));
     }
 
     @Test
@@ -104,8 +161,8 @@ class ReceiptControllerTest {
                         .grade("10")
                         .schoolName("Delhi Public School")
                         .amount(5000.0)
-                        .paymentMode("UPI")
-                        .paymentStatus("PAID")
+                        .paymentMode(PaymentMode.UPI)
+                        .paymentStatus(PaymentStatus.SUCCESS)
                         .remarks("First Term")
                         .paymentDate(LocalDateTime.now())
                         .build(),
@@ -117,9 +174,9 @@ class ReceiptControllerTest {
                         .grade("10")
                         .schoolName("Delhi Public School")
                         .amount(3000.0)
-                        .paymentMode("CARD")
+                        .paymentMode(PaymentMode.CARD)
                         .cardNumber("XXXX-XXXX-XXXX-1111")
-                        .paymentStatus("PAID")
+                        .paymentStatus(PaymentStatus.SUCCESS)
                         .remarks("Second Term")
                         .paymentDate(LocalDateTime.now())
                         .build()
@@ -134,4 +191,68 @@ class ReceiptControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].cardNumber").value("XXXX-XXXX-XXXX-1111"));
     }
+
+    @Test
+    void testGetReceiptsByStudent_BinaryFormats() throws Exception {
+        ReceiptResponseDTO receipt = ReceiptResponseDTO.builder()
+                .id(1L)
+                .receiptNumber("R-001")
+                .studentId("S-001")
+                .amount(5000.0)
+                .paymentMode(PaymentMode.UPI)
+                .paymentStatus(PaymentStatus.SUCCESS)
+                .paymentDate(LocalDateTime.of(2025, 10, 31, 9, 50, 24))
+                .build();
+
+        when(receiptService.getReceiptsByStudent("S-001")).thenReturn(List.of(receipt));
+
+        byte[] smile = mockMvc.perform(get("/api/receipts/student/S-001")
+                        .accept(ReceiptFormatConfig.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ReceiptFormatConfig.APPLICATION_SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] cbor = mockMvc.perform(get("/api/receipts/student/S-001")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode fromSmile = new ObjectMapper(new SmileFactory()).readTree(smile);
+        JsonNode fromCbor = new ObjectMapper(new CBORFactory()).readTree(cbor);
+
+        assertThat(fromSmile.get(0).get("receiptNumber").asText()).isEqualTo("R-001");
+        assertThat(fromCbor.get(0).get("paymentMode").asText()).isEqualTo("UPI");
+        // Binary formats carry dates as arrays of numbers rather than ISO strings
+        assertThat(fromSmile.get(0).get("paymentDate").isArray()).isTrue();
+    }
+
+    @Test
+    void testCollectFee_ShedWhenPaymentLimitReached() throws Exception {
+        AimdLimiter payments = limiterRegistry.get("payments");
+        int held = 0;
+        while (payments.tryAcquire()) {
+            held++;
+        }
+
+        try {
+            mockMvc.perform(post("/api/receipts")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"studentId": "S-001", "amount": 5000.0, "paymentMode": "CASH"}
+                                    """))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"))
+                    .andExpect(jsonPath("$.status").value(503));
+
+            // Reads have their own limit and keep working
+            when(receiptService.getReceipt(1L)).thenReturn(ReceiptResponseDTO.builder().id(1L).build());
+            mockMvc.perform(get("/api/receipts/1"))
+                    .andExpect(status().isOk());
+        } finally {
+            for (int i = 0; i < held; i++) {
+                payments.release(0, false);
+            }
+        }
+    }
 }
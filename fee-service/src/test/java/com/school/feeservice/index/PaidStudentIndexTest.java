@@ -0,0 +1,111 @@
+package com.school.feeservice.index;
+
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.event.FeePaidEvent;
+import com.school.feeservice.repository.ArchivedReceiptRepository;
+import com.school.feeservice.repository.ReceiptRepository;
+import com.school.feeservice.repository.StudentPaymentView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class PaidStudentIndexTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2025, 10);
+
+    @Mock
+    private ReceiptRepository repository;
+
+    @Mock
+    private ArchivedReceiptRepository archiveRepository;
+
+    @InjectMocks
+    private PaidStudentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testLoad_BuildsFromHotAndArchivedReceipts() {
+        when(archiveRepository.findByPaymentStatus(PaymentStatus.SUCCESS))
+                .thenReturn(List.of(payment("S-1", LocalDateTime.of(2025, 6, 3, 9, 0))));
+        when(repository.findByPaymentStatus(PaymentStatus.SUCCESS)).thenReturn(List.of(
+                payment("S-1", LocalDateTime.of(2025, 10, 2, 9, 0)),
+                payment("S-2", LocalDateTime.of(2025, 10, 4, 9, 0)),
+                payment("S-2", LocalDateTime.of(2025, 10, 20, 9, 0))));
+
+        index.load();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.paidCount(OCTOBER)).isEqualTo(2);
+        assertThat(index.paidCount(YearMonth.of(2025, 6))).isEqualTo(1);
+        assertThat(index.unpaid(YearMonth.of(2025, 6), List.of("S-1", "S-2"))).containsExactly("S-2");
+    }
+
+    @Test
+    void testOnFeePaid_UpdatesMonth() {
+        index.onFeePaid(new FeePaidEvent("S-9", LocalDateTime.of(2025, 10, 19, 12, 0)));
+
+        assertThat(index.paidCount(OCTOBER)).isEqualTo(1);
+        assertThat(index.unpaid(OCTOBER, List.of("S-8", "S-9", "S-10"))).containsExactly("S-8", "S-10");
+    }
+
+    @Test
+    void testUnpaid_UnknownMonthReturnsWholeRoster() {
+        index.markPaid("S-1", OCTOBER);
+
+        assertThat(index.unpaid(YearMonth.of(2025, 11), List.of("S-1", "S-2"))).containsExactly("S-1", "S-2");
+        assertThat(index.paidCount(YearMonth.of(2025, 11))).isZero();
+    }
+
+    @Test
+    void testUnpaid_SkipsNullStudentIds() {
+        index.markPaid("S-1", OCTOBER);
+
+        assertThat(index.unpaid(OCTOBER, Arrays.asList("S-1", null, "S-2"))).containsExactly("S-2");
+    }
+
+    @Test
+    void testUnpaid_LargeRoster() {
+        List<String> roster = IntStream.range(0, 300_000).mapToObj(i -> "S-" + i).toList();
+        List<StudentPaymentView> paid = new ArrayList<>();
+        for (int i = 0; i < roster.size(); i += 3) {
+            paid.add(payment(roster.get(i), LocalDateTime.of(2025, 10, 1, 8, 0)));
+        }
+        when(repository.findByPaymentStatus(PaymentStatus.SUCCESS)).thenReturn(paid);
+        index.load();
+
+        List<String> unpaid = index.unpaid(OCTOBER, roster);
+
+        assertThat(index.paidCount(OCTOBER)).isEqualTo(100_000);
+        assertThat(unpaid).hasSize(200_000).doesNotContain("S-0", "S-3").contains("S-1", "S-2");
+    }
+
+    private static StudentPaymentView payment(String studentId, LocalDateTime paymentDate) {
+        return new StudentPaymentView() {
+            @Override
+            public String getStudentId() {
+                return studentId;
+            }
+
+            @Override
+            public LocalDateTime getPaymentDate() {
+                return paymentDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.school.feeservice.limit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private ConcurrencyLimitProperties.Limiter config;
+
+    @BeforeEach
+    void setUp() {
+        config = new ConcurrencyLimitProperties.Limiter();
+        config.setInitialLimit(10);
+        config.setMinLimit(2);
+        config.setMaxLimit(20);
+        config.setLatencyThreshold(Duration.ofMillis(100));
+        config.setBackoffRatio(0.5);
+    }
+
+    @Test
+    void testTryAcquire_RejectsBeyondLimit() {
+        AimdLimiter limiter = new AimdLimiter("payments", config);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void testRelease_FastCallsUnderLoadGrowLimit() {
+        AimdLimiter limiter = new AimdLimiter("payments", config);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+        }
+
+        limiter.release(FAST, false);
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void testRelease_IdleLimiterDoesNotGrow() {
+        AimdLimiter limiter = new AimdLimiter("payments", config);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void testRelease_SlowOrFailedCallsShrinkLimitDownToMin() {
+        AimdLimiter limiter = new AimdLimiter("payments", config);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void testRelease_LimitCappedAtMax() {
+        config.setInitialLimit(20);
+        AimdLimiter limiter = new AimdLimiter("reads", config);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+        }
+
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,91 @@
+package com.school.feeservice.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "fee-service.profiling.enabled=true",
+        "fee-service.profiling.dump-token=test-token"
+})
+@AutoConfigureMockMvc
+class JfrDumpEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testDump_RequiresToken() throws Exception {
+        mockMvc.perform(get("/actuator/jfrdump"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/jfrdump").header("Authorization", "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testDump_RequiresTokenWithPathParameter() throws Exception {
+        mockMvc.perform(get(URI.create("/actuator/jfrdump;x=1")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testDump_RequiresTokenWithPercentEncodedPath() throws Exception {
+        mockMvc.perform(get(URI.create("/actuator/jfr%64ump")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testDump_NotFoundWhileDisabled() throws Exception {
+        ContinuousProfiler disabled = new ContinuousProfiler(new ProfilingProperties());
+        disabled.start();
+
+        assertThat(disabled.isRunning()).isFalse();
+        assertThat(new JfrDumpEndpoint(disabled).dump(null).getStatus())
+                .isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    void testDump_ContainsPaymentStageEvents() throws Exception {
+        PaymentStageEvent.start("duplicate-check", "S-JFR").finish(false);
+        assertThatThrownBy(() -> PaymentStageEvent.record("student-lookup", "S-JFR-FAILED", () -> {
+            throw new IllegalStateException("student-service down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        byte[] dump = mockMvc.perform(get("/actuator/jfrdump")
+                        .param("minutes", "5")
+                        .header("Authorization", "Bearer test-token"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.createTempFile("jfrdump-test", ".jfr");
+        try {
+            Files.write(file, dump);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events)
+                    .filteredOn(event -> event.getEventType().getName().equals("com.school.feeservice.PaymentStage"))
+                    .anySatisfy(event -> assertThat(event.getString("studentId")).isEqualTo("S-JFR"))
+                    .anySatisfy(event -> {
+                        assertThat(event.getString("studentId")).isEqualTo("S-JFR-FAILED");
+                        assertThat(event.getBoolean("failed")).isTrue();
+                    });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
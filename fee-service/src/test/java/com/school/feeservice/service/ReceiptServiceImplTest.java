@@ -2,15 +2,23 @@ package com.school.feeservice.service;
 
 import com.school.feeservice.client.StudentClient;
 import com.school.feeservice.dto.*;
+import com.school.feeservice.entity.ArchivedReceipt;
 import com.school.feeservice.entity.Receipt;
+import com.school.feeservice.enums.PaymentMode;
+import com.school.feeservice.enums.PaymentStatus;
+import com.school.feeservice.event.FeePaidEvent;
 import com.school.feeservice.exception.ReceiptNotFoundException;
 import com.school.feeservice.exception.StudentNotFoundException;
+import com.school.feeservice.repository.ArchivedReceiptRepository;
 import com.school.feeservice.repository.ReceiptRepository;
 import com.school.feeservice.util.ReceiptMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
 
 import java.util.*;
 
@@ -22,9 +30,15 @@ class ReceiptServiceImplTest {
     @Mock
     private ReceiptRepository repository;
 
+    @Mock
+    private ArchivedReceiptRepository archiveRepository;
+
     @Mock
     private StudentClient studentClient;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReceiptServiceImpl service;
 
@@ -39,7 +53,7 @@ class ReceiptServiceImplTest {
         request = ReceiptRequestDTO.builder()
                 .studentId("S-12345")
                 .amount(5000.0)
-                .paymentMode("CREDIT_CARD")
+                .paymentMode(PaymentMode.CARD)
                 .cardNumber("5123456745")
                 .remarks("Initial test")
                 .build();
@@ -56,8 +70,8 @@ class ReceiptServiceImplTest {
                 .receiptNumber("REC-1001")
                 .studentId("S-12345")
                 .amount(5000.0)
-                .paymentMode("CREDIT_CARD")
-                .paymentStatus("SUCCESS")
+                .paymentMode(PaymentMode.CARD)
+                .paymentStatus(PaymentStatus.SUCCESS)
                 .remarks("Initial test")
                 .build();
         savedReceipt = Receipt.builder()
@@ -65,8 +79,8 @@ class ReceiptServiceImplTest {
                 .receiptNumber("REC-1001")
                 .studentId("S-12345")
                 .amount(5000.0)
-                .paymentMode("CREDIT_CARD")
-                .paymentStatus("SUCCESS")
+                .paymentMode(PaymentMode.CARD)
+                .paymentStatus(PaymentStatus.SUCCESS)
                 .remarks("Initial test")
                 .build();
     }
@@ -83,11 +97,22 @@ class ReceiptServiceImplTest {
         // Assert
         assertThat(response).isNotNull();
         assertThat(response.getStudentName()).isEqualTo("John Doe");
-        assertThat(response.getPaymentStatus()).isEqualTo("SUCCESS");
+        assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.SUCCESS);
         verify(repository, times(1)).save(any(Receipt.class));
         verify(studentClient, times(1)).getByStudentId(request.getStudentId());
     }
 
+    @Test
+    void testProcessFeePayment_PublishesFeePaidEvent() {
+        savedReceipt.setPaymentDate(LocalDateTime.of(2025, 10, 5, 10, 0));
+        when(studentClient.getByStudentId(request.getStudentId())).thenReturn(student);
+        when(repository.save(any(Receipt.class))).thenReturn(savedReceipt);
+
+        service.processFeePayment(request);
+
+        verify(eventPublisher).publishEvent(new FeePaidEvent("S-12345", LocalDateTime.of(2025, 10, 5, 10, 0)));
+    }
+
     @Test
     void testProcessFeePayment_StudentNotFound() {
         when(studentClient.getByStudentId(anyString())).thenReturn(null);
@@ -120,9 +145,9 @@ class ReceiptServiceImplTest {
 
         Receipt savedEntity = captor.getValue();
 
-        assertThat(savedEntity.getPaymentStatus()).isEqualTo("PENDING");
+        assertThat(savedEntity.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
         assertThat(response).isNotNull();
-        assertThat(response.getPaymentStatus()).isEqualTo("PENDING");
+        assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
         assertThat(response.getRemarks()).contains("Student service unavailable");
     }
 
@@ -146,6 +171,49 @@ class ReceiptServiceImplTest {
                 .hasMessageContaining("Receipt not found");
     }
 
+    @Test
+    void testGetReceipt_ReadsThroughToArchive() {
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(1L)).thenReturn(Optional.of(ArchivedReceipt.from(savedReceipt)));
+
+        ReceiptResponseDTO response = service.getReceipt(1L);
+
+        assertThat(response.getReceiptNumber()).isEqualTo("REC-1001");
+    }
+
+    @Test
+    void testGetReceiptsByStudent_IncludesArchived() {
+        Receipt older = Receipt.builder()
+                .id(2L)
+                .receiptNumber("REC-0900")
+                .studentId("S-12345")
+                .amount(5000.0)
+                .paymentMode(PaymentMode.CASH)
+                .paymentStatus(PaymentStatus.SUCCESS)
+                .build();
+        when(archiveRepository.findByStudentId("S-12345")).thenReturn(List.of(ArchivedReceipt.from(older)));
+        when(repository.findByStudentId("S-12345")).thenReturn(List.of(savedReceipt));
+
+        List<ReceiptResponseDTO> result = service.getReceiptsByStudent("S-12345");
+
+        assertThat(result).extracting(ReceiptResponseDTO::getReceiptNumber)
+                .containsExactly("REC-0900", "REC-1001");
+    }
+
+    @Test
+    void testGetReceiptsByStudent_ReadsHotFirstAndSkipsDuplicates() {
+        // Archived by the job after the hot read, so it shows up in both tables
+        when(repository.findByStudentId("S-12345")).thenReturn(List.of(savedReceipt));
+        when(archiveRepository.findByStudentId("S-12345")).thenReturn(List.of(ArchivedReceipt.from(savedReceipt)));
+
+        List<ReceiptResponseDTO> result = service.getReceiptsByStudent("S-12345");
+
+        assertThat(result).extracting(ReceiptResponseDTO::getReceiptNumber).containsExactly("REC-1001");
+        InOrder order = inOrder(repository, archiveRepository);
+        order.verify(repository).findByStudentId("S-12345");
+        order.verify(archiveRepository).findByStudentId("S-12345");
+    }
+
     @Test
     void testGetReceiptsByStudent_ReturnsList() {
         when(repository.findByStudentId("S-12345")).thenReturn(List.of(savedReceipt));